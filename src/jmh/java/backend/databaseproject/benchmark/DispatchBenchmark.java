@@ -0,0 +1,93 @@
+package backend.databaseproject.benchmark;
+
+import backend.databaseproject.domain.route.optimizer.DistanceMatrix;
+import backend.databaseproject.domain.route.optimizer.FleetRoutePlanner;
+import backend.databaseproject.domain.route.optimizer.OrderSelectionEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 배정 벤치마크
+ * DeliveryBatchService가 매장마다 호출하는 FleetRoutePlanner.plan (드론별 OrderSelectionEngine.select)을
+ * 가상 주문으로 실행합니다. 드론은 data.sql의 기본 기체와 비슷하게 적재량 5kg, 비행 가능 거리 20km로 둡니다.
+ *
+ * 배정 품질 (Trial 종료 시 출력)
+ * - 배정된 주문 수 / 전체 주문 수
+ * - 드론 경로 총 거리와 주문당 거리 (km)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DispatchBenchmark {
+
+    private static final double MAX_PAYLOAD_KG = 5.0;
+    private static final double MAX_DISTANCE_KM = 20.0;
+
+    @Param({"5", "10", "20", "50", "100", "200", "500"})
+    private int orderCount;
+
+    @Param({"1", "4"})
+    private int droneCount;
+
+    @Param({"COUNT", "WEIGHT"})
+    private OrderSelectionEngine.Objective objective;
+
+    private FleetRoutePlanner fleetRoutePlanner;
+    private SyntheticDeliveries deliveries;
+    private DistanceMatrix matrix;
+    private int[] nodes;
+    private double[] maxPayloadKg;
+    private double[] maxDistanceKm;
+
+    private int[][] lastTours;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        fleetRoutePlanner = new FleetRoutePlanner(new OrderSelectionEngine(objective, 30));
+        deliveries = SyntheticDeliveries.generate(orderCount, 3.0, 42);
+        matrix = DistanceMatrix.of(deliveries.store, deliveries.orders);
+
+        nodes = new int[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            nodes[i] = i + 1;
+        }
+        maxPayloadKg = new double[droneCount];
+        maxDistanceKm = new double[droneCount];
+        Arrays.fill(maxPayloadKg, MAX_PAYLOAD_KG);
+        Arrays.fill(maxDistanceKm, MAX_DISTANCE_KM);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (lastTours == null) {
+            return;
+        }
+        int assigned = 0;
+        double totalKm = 0.0;
+        for (int[] tour : lastTours) {
+            assigned += tour.length - 2;
+            totalKm += matrix.tourDistance(tour);
+        }
+        System.out.printf("%n[배정 품질] 주문 %d개, 드론 %d대, 목표 %s - 배정: %d건, 총 거리: %.3fkm, 주문당: %.3fkm%n",
+                orderCount, droneCount, objective, assigned, totalKm, assigned > 0 ? totalKm / assigned : 0.0);
+    }
+
+    @Benchmark
+    public int[][] planFleet() {
+        int[][] tours = fleetRoutePlanner.plan(nodes, deliveries.weightKg, deliveries.ageMinutes,
+                maxPayloadKg, maxDistanceKm, matrix);
+        lastTours = tours;
+        return tours;
+    }
+}
@@ -0,0 +1,72 @@
+package backend.databaseproject.benchmark;
+
+import backend.databaseproject.global.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거리 계산 벤치마크
+ * 한 기준점에서 주변 지점 1024개까지의 거리를 Haversine(calculateDistance), 등장방형 근사(fastDistance),
+ * 일괄 계산(fastDistances)으로 각각 계산하여 지점 하나당 시간을 비교합니다.
+ *
+ * 지점은 서울 시청 기준 약 20km 이내에 무작위로 배치합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeoDistanceBenchmark {
+
+    private static final int POINT_COUNT = 1024;
+    private static final double ORIGIN_LAT = 37.5665;
+    private static final double ORIGIN_LNG = 126.9780;
+
+    private double[] lats;
+    private double[] lngs;
+    private double[] out;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        lats = new double[POINT_COUNT];
+        lngs = new double[POINT_COUNT];
+        out = new double[POINT_COUNT];
+        for (int i = 0; i < POINT_COUNT; i++) {
+            lats[i] = ORIGIN_LAT + random.nextDouble(-0.18, 0.18);
+            lngs[i] = ORIGIN_LNG + random.nextDouble(-0.22, 0.22);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINT_COUNT)
+    public void haversine(Blackhole blackhole) {
+        for (int i = 0; i < POINT_COUNT; i++) {
+            blackhole.consume(GeoUtils.calculateDistance(ORIGIN_LAT, ORIGIN_LNG, lats[i], lngs[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINT_COUNT)
+    public void fastDistance(Blackhole blackhole) {
+        for (int i = 0; i < POINT_COUNT; i++) {
+            blackhole.consume(GeoUtils.fastDistance(ORIGIN_LAT, ORIGIN_LNG, lats[i], lngs[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINT_COUNT)
+    public double[] fastDistancesBatch() {
+        GeoUtils.fastDistances(ORIGIN_LAT, ORIGIN_LNG, lats, lngs, POINT_COUNT, out);
+        return out;
+    }
+}
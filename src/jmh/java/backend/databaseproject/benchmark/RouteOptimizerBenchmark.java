@@ -0,0 +1,108 @@
+package backend.databaseproject.benchmark;
+
+import backend.databaseproject.domain.route.optimizer.DistanceMatrix;
+import backend.databaseproject.domain.route.optimizer.HeldKarpSolver;
+import backend.databaseproject.domain.route.optimizer.MultiStartTourSearch;
+import backend.databaseproject.domain.route.optimizer.OptimizedRoute;
+import backend.databaseproject.domain.route.optimizer.OrOptImprover;
+import backend.databaseproject.domain.route.optimizer.TwoOptImprover;
+import backend.databaseproject.domain.route.service.RouteOptimizerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 최적화 벤치마크
+ * RouteOptimizerService.optimizeRoute를 application.yml 기본 설정(Held-Karp 12개 이하, 다중 시작 20개 이상)으로
+ * 실행합니다. 배송지 수에 따라 사용되는 알고리즘이 달라지므로 시간과 함께 경로 품질을 출력합니다.
+ *
+ * 경로 품질 (Trial 종료 시 출력)
+ * - 평균 경로 거리 (km)
+ * - Nearest Neighbor 초기 경로 대비 개선율 (%)
+ *
+ * 다중 시작 탐색은 시간 예산(multi-start.time-budget-ms)까지 실행되므로, 큰 입력의 시간은 예산에 가깝게 나옵니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RouteOptimizerBenchmark {
+
+    @Param({"5", "10", "20", "50", "100", "200", "500"})
+    private int orderCount;
+
+    private AnnotationConfigApplicationContext context;
+    private RouteOptimizerService routeOptimizerService;
+    private SyntheticDeliveries deliveries;
+    private DistanceMatrix matrix;
+
+    private long runs;
+    private double distanceSum;
+    private double initialDistanceSum;
+    private String heuristic;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 경로 최적화 관련 빈만 등록한 최소 컨텍스트 (@Value 기본값과 @PostConstruct 적용)
+        context = new AnnotationConfigApplicationContext(
+                RouteOptimizerService.class, HeldKarpSolver.class, MultiStartTourSearch.class,
+                TwoOptImprover.class, OrOptImprover.class);
+        routeOptimizerService = context.getBean(RouteOptimizerService.class);
+
+        deliveries = SyntheticDeliveries.generate(orderCount, 5.0, 42);
+        matrix = DistanceMatrix.of(deliveries.store, deliveries.orders);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (runs > 0) {
+            double average = distanceSum / runs;
+            double improvement = 100.0 * (1.0 - distanceSum / initialDistanceSum);
+            System.out.printf("%n[경로 품질] 배송지 %d개 - 알고리즘: %s, 평균 거리: %.3fkm, NN 대비 개선: %.2f%%%n",
+                    orderCount, heuristic, average, improvement);
+        }
+        context.close();
+    }
+
+    /**
+     * 거리 행렬 생성 + 경로 최적화 (배치 처리에서 매장마다 실행되는 작업)
+     */
+    @Benchmark
+    public OptimizedRoute optimizeRoute() {
+        OptimizedRoute route = routeOptimizerService.optimizeRoute(deliveries.orders, deliveries.store);
+        record(route);
+        return route;
+    }
+
+    /**
+     * 거리 행렬 생성만 (N² Haversine)
+     */
+    @Benchmark
+    public DistanceMatrix buildDistanceMatrix() {
+        return DistanceMatrix.of(deliveries.store, deliveries.orders);
+    }
+
+    /**
+     * 미리 만든 거리 행렬로 경로 최적화만
+     */
+    @Benchmark
+    public OptimizedRoute optimizeRouteWithMatrix() {
+        return routeOptimizerService.optimizeRoute(deliveries.orders, deliveries.store, matrix);
+    }
+
+    private void record(OptimizedRoute route) {
+        runs++;
+        distanceSum += route.getDistanceKm();
+        initialDistanceSum += route.getInitialDistanceKm();
+        heuristic = route.getHeuristic();
+    }
+}
@@ -0,0 +1,111 @@
+package backend.databaseproject.benchmark;
+
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.domain.store.entity.StoreType;
+import backend.databaseproject.domain.store.index.StoreGrid;
+import backend.databaseproject.global.util.GeoUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배달 가능 매장 조회 벤치마크
+ * StoreGrid 격자 조회와, 기존 findStoresWithinRadius 네이티브 쿼리의 거리 조건을 메모리에서 흉내 낸 전체 탐색
+ * (모든 활성 매장에 대해 Haversine 계산)을 비교합니다.
+ *
+ * fullScan은 DB 없이 거리 계산 비용만 보는 비교입니다. 네이티브 쿼리 자체(SQL 실행, 인덱스 범위 탐색, 엔티티 매핑)와의
+ * 비교는 StoreNearbyQueryBenchmark에서 측정합니다.
+ *
+ * 매장은 서울 일대(위도 37.3~37.7, 경도 126.8~127.2)에 무작위 배치하고 배달 반경은 1~5km입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreGeoIndexBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "10000", "50000"})
+    private int storeCount;
+
+    private StoreGrid grid;
+    private double[] storeLat;
+    private double[] storeLng;
+    private double[] storeRadiusKm;
+    private double[] queryLat;
+    private double[] queryLng;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Store> stores = new ArrayList<>(storeCount);
+        storeLat = new double[storeCount];
+        storeLng = new double[storeCount];
+        storeRadiusKm = new double[storeCount];
+        for (int i = 0; i < storeCount; i++) {
+            Store store = Store.builder()
+                    .name("store-" + i)
+                    .type(StoreType.CONVENIENCE)
+                    .lat(coordinate(random.nextDouble(37.3, 37.7)))
+                    .lng(coordinate(random.nextDouble(126.8, 127.2)))
+                    .deliveryRadiusKm(BigDecimal.valueOf(random.nextDouble(1.0, 5.0)).setScale(2, RoundingMode.HALF_UP))
+                    .build();
+            stores.add(store);
+            storeLat[i] = store.getLat().doubleValue();
+            storeLng[i] = store.getLng().doubleValue();
+            storeRadiusKm[i] = store.getDeliveryRadiusKm().doubleValue();
+        }
+        grid = StoreGrid.build(stores, 0.02);
+
+        queryLat = new double[QUERY_COUNT];
+        queryLng = new double[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryLat[i] = random.nextDouble(37.3, 37.7);
+            queryLng[i] = random.nextDouble(126.8, 127.2);
+        }
+    }
+
+    @Benchmark
+    public List<StoreGrid.StoreHit> gridLookup() {
+        int q = nextQuery();
+        return grid.findDeliverable(queryLat[q], queryLng[q]);
+    }
+
+    @Benchmark
+    public List<double[]> fullScan() {
+        int q = nextQuery();
+        List<double[]> hits = new ArrayList<>();
+        for (int i = 0; i < storeCount; i++) {
+            double distanceKm = GeoUtils.calculateDistance(queryLat[q], queryLng[q], storeLat[i], storeLng[i]);
+            if (distanceKm <= storeRadiusKm[i]) {
+                hits.add(new double[]{i, distanceKm});
+            }
+        }
+        hits.sort(Comparator.comparingDouble(hit -> hit[1]));
+        return hits;
+    }
+
+    private int nextQuery() {
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return next;
+    }
+
+    private static BigDecimal coordinate(double degrees) {
+        return BigDecimal.valueOf(degrees).setScale(6, RoundingMode.HALF_UP);
+    }
+}
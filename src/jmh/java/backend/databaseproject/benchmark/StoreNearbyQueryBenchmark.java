@@ -0,0 +1,135 @@
+package backend.databaseproject.benchmark;
+
+import backend.databaseproject.DatabaseProjectApplication;
+import backend.databaseproject.domain.store.dto.response.StoreResponse;
+import backend.databaseproject.domain.store.index.StoreGrid;
+import backend.databaseproject.domain.store.repository.StoreRepository;
+import backend.databaseproject.domain.store.service.StoreService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 배달 가능 매장 조회 벤치마크 (DB 포함)
+ * 같은 매장 데이터로 StoreService.getStoresNearby의 두 경로를 비교합니다.
+ * - dbQuery: 공간 인덱스 비활성화 시 경로 (findStoresWithinRadius 네이티브 쿼리 + 매장별 반경 필터)
+ * - gridLookup: 공간 인덱스 경로 (StoreGrid 조회 + 응답 변환)
+ *
+ * MySQL 대신 부하 테스트와 같은 MySQL 호환 모드의 메모리 H2를 사용하고 서버 전체를 띄웁니다 (임의 포트).
+ * H2는 같은 프로세스 안에 있으므로 네트워크 왕복이 없고, 실행 계획과 인덱스 동작도 MySQL과 다릅니다.
+ * 따라서 dbQuery 시간은 실제 MySQL보다 짧게 나오는 하한값으로 보아야 합니다.
+ *
+ * 매장은 서울 일대(위도 37.3~37.7, 경도 126.8~127.2)에 무작위 배치하고 배달 반경은 1~5km입니다 (StoreGeoIndexBenchmark와 동일).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreNearbyQueryBenchmark {
+
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"1000", "10000", "50000"})
+    private int storeCount;
+
+    private ConfigurableApplicationContext context;
+    private StoreService storeService;
+    private StoreGrid grid;
+    private BigDecimal[] queryLat;
+    private BigDecimal[] queryLng;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(DatabaseProjectApplication.class)
+                .properties(Map.of(
+                        "server.port", "0",
+                        "spring.datasource.driver-class-name", "org.h2.Driver",
+                        "spring.datasource.url", "jdbc:h2:mem:store-bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+                                + "NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username", "sa",
+                        "spring.datasource.password", "",
+                        "spring.jpa.hibernate.ddl-auto", "create-drop",
+                        "spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect",
+                        "spring.sql.init.mode", "never",
+                        // getStoresNearby가 항상 DB 경로를 타도록 서버의 공간 인덱스는 끔
+                        "delivery.store-index.enabled", "false"))
+                .run();
+        storeService = context.getBean(StoreService.class);
+
+        insertStores(context.getBean(JdbcTemplate.class), new SplittableRandom(42));
+        grid = StoreGrid.build(context.getBean(StoreRepository.class).findByIsActiveTrue(), 0.02);
+
+        SplittableRandom random = new SplittableRandom(7);
+        queryLat = new BigDecimal[QUERY_COUNT];
+        queryLng = new BigDecimal[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queryLat[i] = scaled(random.nextDouble(37.3, 37.7));
+            queryLng[i] = scaled(random.nextDouble(126.8, 127.2));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StoreResponse> dbQuery() {
+        int q = nextQuery();
+        return storeService.getStoresNearby(queryLat[q], queryLng[q]);
+    }
+
+    @Benchmark
+    public List<StoreResponse> gridLookup() {
+        int q = nextQuery();
+        return grid.findDeliverable(queryLat[q].doubleValue(), queryLng[q].doubleValue()).stream()
+                .map(hit -> StoreResponse.from(hit.getStore(), hit.getDistanceKm()))
+                .collect(Collectors.toList());
+    }
+
+    private void insertStores(JdbcTemplate jdbcTemplate, SplittableRandom random) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO user (name, phone, address, lat, lng, role, registered_at) "
+                + "VALUES ('점주', '010-0000-0000', '벤치마크', 37.5, 127.0, 'OWNER', ?)", now);
+        Long ownerId = jdbcTemplate.queryForObject("SELECT MAX(user_id) FROM user", Long.class);
+
+        List<Object[]> stores = new ArrayList<>(storeCount);
+        for (int i = 0; i < storeCount; i++) {
+            stores.add(new Object[]{ownerId, "store-" + i, "CONVENIENCE", "02-000-0000", "벤치마크 주소",
+                    scaled(random.nextDouble(37.3, 37.7)), scaled(random.nextDouble(126.8, 127.2)),
+                    BigDecimal.valueOf(random.nextDouble(1.0, 5.0)).setScale(2, RoundingMode.HALF_UP), true, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO store (owner_id, name, type, phone, address, lat, lng, "
+                + "delivery_radius_km, is_active, registered_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", stores);
+    }
+
+    private int nextQuery() {
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return next;
+    }
+
+    private static BigDecimal scaled(double degrees) {
+        return BigDecimal.valueOf(degrees).setScale(6, RoundingMode.HALF_UP);
+    }
+}
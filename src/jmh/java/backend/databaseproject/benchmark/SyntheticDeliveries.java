@@ -0,0 +1,81 @@
+package backend.databaseproject.benchmark;
+
+import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.domain.store.entity.StoreType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 가상 배송 데이터
+ * 매장 1곳과 매장 반경 radiusKm 이내의 배송지를 고정 시드로 생성합니다 (같은 크기면 항상 같은 데이터).
+ */
+final class SyntheticDeliveries {
+
+    static final double STORE_LAT = 37.494095;
+    static final double STORE_LNG = 127.027610;
+
+    private static final double KM_PER_DEGREE_LAT = 111.195;
+
+    final Store store;
+    final List<Order> orders;
+    final double[] weightKg;
+    final double[] ageMinutes;
+
+    private SyntheticDeliveries(Store store, List<Order> orders, double[] weightKg, double[] ageMinutes) {
+        this.store = store;
+        this.orders = orders;
+        this.weightKg = weightKg;
+        this.ageMinutes = ageMinutes;
+    }
+
+    /**
+     * @param orderCount 주문 수
+     * @param radiusKm   매장에서 배송지까지 최대 거리 (km)
+     * @param seed       난수 시드
+     */
+    static SyntheticDeliveries generate(int orderCount, double radiusKm, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Store store = Store.builder()
+                .name("benchmark-store")
+                .type(StoreType.CONVENIENCE)
+                .lat(scaled(STORE_LAT, 6))
+                .lng(scaled(STORE_LNG, 6))
+                .deliveryRadiusKm(scaled(radiusKm, 2))
+                .build();
+
+        double kmPerDegreeLng = KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(STORE_LAT));
+        List<Order> orders = new ArrayList<>(orderCount);
+        double[] weightKg = new double[orderCount];
+        double[] ageMinutes = new double[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            // 원 안에 균일 분포
+            double distanceKm = radiusKm * Math.sqrt(random.nextDouble());
+            double bearing = random.nextDouble(0, 2 * Math.PI);
+            double lat = STORE_LAT + distanceKm * Math.cos(bearing) / KM_PER_DEGREE_LAT;
+            double lng = STORE_LNG + distanceKm * Math.sin(bearing) / kmPerDegreeLng;
+
+            weightKg[i] = Math.round(random.nextDouble(0.2, 3.0) * 100) / 100.0;
+            ageMinutes[i] = random.nextDouble(0, 45);
+            orders.add(Order.builder()
+                    .store(store)
+                    .originLat(store.getLat())
+                    .originLng(store.getLng())
+                    .destLat(scaled(lat, 6))
+                    .destLng(scaled(lng, 6))
+                    .totalWeightKg(scaled(weightKg[i], 2))
+                    .totalAmount(10_000)
+                    .itemCount(1)
+                    .build());
+        }
+        return new SyntheticDeliveries(store, orders, weightKg, ageMinutes);
+    }
+
+    private static BigDecimal scaled(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+}
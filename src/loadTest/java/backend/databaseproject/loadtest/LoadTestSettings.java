@@ -0,0 +1,42 @@
+package backend.databaseproject.loadtest;
+
+/**
+ * 부하 테스트 설정
+ * 시스템 프로퍼티(-Dloadtest.xxx=값)로 바꿀 수 있습니다. ./gradlew loadTest 실행 시 loadtest.* 프로퍼티가 그대로 전달됩니다.
+ *
+ * <pre>
+ * loadtest.stores              매장 수 (기본 200)
+ * loadtest.drones-per-store    매장별 드론 수 (기본 3)
+ * loadtest.customers           고객 수 (기본 5000)
+ * loadtest.products            상품 수 (기본 30, 모든 매장이 모든 상품 판매)
+ * loadtest.orders              생성할 주문 수 (기본 2000)
+ * loadtest.concurrency         동시 주문 요청 수 (기본 64)
+ * loadtest.stomp-clients       STOMP 연결 수 (기본 50, 주문을 나누어 구독)
+ * loadtest.dispatch-interval-ms 배치 배송 요청 간격 (기본 1000)
+ * loadtest.timeout-s           배송 완료 알림 대기 최대 시간 (기본 300)
+ * loadtest.seed                데이터 생성 난수 시드 (기본 42)
+ * </pre>
+ */
+final class LoadTestSettings {
+
+    final int stores = intValue("stores", 200);
+    final int dronesPerStore = intValue("drones-per-store", 3);
+    final int customers = intValue("customers", 5000);
+    final int products = intValue("products", 30);
+    final int orders = intValue("orders", 2000);
+    final int concurrency = intValue("concurrency", 64);
+    final int stompClients = intValue("stomp-clients", 50);
+    final long dispatchIntervalMs = intValue("dispatch-interval-ms", 1000);
+    final long timeoutSeconds = intValue("timeout-s", 300);
+    final long seed = intValue("seed", 42);
+
+    private static int intValue(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("매장 %d, 드론 %d/매장, 고객 %d, 상품 %d, 주문 %d, 동시 요청 %d, STOMP 연결 %d",
+                stores, dronesPerStore, customers, products, orders, concurrency, stompClients);
+    }
+}
@@ -0,0 +1,132 @@
+package backend.databaseproject.loadtest;
+
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고객 앱 역할의 STOMP 클라이언트 묶음
+ * 여러 연결에 주문을 나누어 /topic/order/{orderId}/position(위치)과 /topic/order/{orderId}(배송 완료)를 구독하고,
+ * 주문 생성 시각부터 첫 위치 수신, 배송 완료 알림 수신까지의 시간을 기록합니다.
+ */
+final class OrderTracker implements AutoCloseable {
+
+    static final String STAGE_FIRST_POSITION = "3.order->first-position";
+    static final String STAGE_FULFILLED = "4.order->fulfilled";
+
+    private final StageMetrics metrics;
+    private final WebSocketStompClient stompClient;
+    private final List<StompSession> sessions = new ArrayList<>();
+
+    /**
+     * 주문 ID → 주문 생성 요청 시작 시각 (System.nanoTime)
+     */
+    private final Map<Long, Long> createdAt = new ConcurrentHashMap<>();
+    private final Set<Long> positioned = ConcurrentHashMap.newKeySet();
+    private final Set<Long> fulfilled = ConcurrentHashMap.newKeySet();
+    private final AtomicLong positionMessages = new AtomicLong();
+
+    OrderTracker(StageMetrics metrics) {
+        this.metrics = metrics;
+        this.stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        this.stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        this.stompClient.setDefaultHeartbeat(new long[]{0, 0}); // 하트비트 스케줄러 없이 사용
+    }
+
+    /**
+     * STOMP 연결 생성 (SockJS 없는 네이티브 엔드포인트)
+     */
+    void connect(String url, int clients) throws Exception {
+        for (int i = 0; i < clients; i++) {
+            sessions.add(stompClient.connectAsync(url, new StompSessionHandlerAdapter() {
+            }).get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * 주문 구독 시작
+     *
+     * @param orderId      주문 ID
+     * @param createdNanos 주문 생성 요청 시작 시각 (System.nanoTime)
+     */
+    void track(long orderId, long createdNanos) {
+        createdAt.put(orderId, createdNanos);
+        StompSession session = sessions.get((int) (orderId % sessions.size()));
+        session.subscribe("/topic/order/" + orderId + "/position", new MapFrameHandler() {
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                positionMessages.incrementAndGet();
+                if (positioned.add(orderId)) {
+                    metrics.record(STAGE_FIRST_POSITION, createdNanos, System.nanoTime());
+                }
+            }
+        });
+        session.subscribe("/topic/order/" + orderId, new MapFrameHandler() {
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                if (payload instanceof Map<?, ?> message && "FULFILLED".equals(message.get("status"))
+                        && fulfilled.add(orderId)) {
+                    metrics.record(STAGE_FULFILLED, createdNanos, System.nanoTime());
+                }
+            }
+        });
+    }
+
+    int trackedCount() {
+        return createdAt.size();
+    }
+
+    int fulfilledCount() {
+        return fulfilled.size();
+    }
+
+    long positionMessageCount() {
+        return positionMessages.get();
+    }
+
+    /**
+     * 추적 중인 모든 주문의 배송 완료 알림 대기
+     *
+     * @return 시간 안에 모두 받았으면 true
+     */
+    boolean awaitAllFulfilled(long timeoutSeconds) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        while (fulfilled.size() < createdAt.size()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(200);
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        for (StompSession session : sessions) {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        }
+        stompClient.stop();
+    }
+
+    private abstract static class MapFrameHandler implements StompFrameHandler {
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return Map.class;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package backend.databaseproject.loadtest;
+
+import backend.databaseproject.domain.order.dto.request.OrderCreateRequest;
+import backend.databaseproject.domain.order.dto.request.OrderItemRequest;
+import backend.databaseproject.domain.order.dto.response.OrderCreateResponse;
+import backend.databaseproject.domain.route.dto.response.BatchDispatchResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 주문 생성 → 배치 배송 → 비행 시뮬레이션 → 고객 알림까지 전체 파이프라인 부하 테스트
+ * 실제 포트로 서버를 띄우고 HTTP/STOMP 클라이언트로 고객 앱과 관리자 스케줄러 역할을 대신합니다.
+ *
+ * 단계별로 지연 시간 백분위수와 처리량을 출력합니다.
+ * - 1.order.create: 주문 생성 API 응답 시간
+ * - 2.dispatch.batch: 배치 배송 API 응답 시간 (매장별 경로 계획 포함)
+ * - 3.order->first-position: 주문 생성 요청부터 첫 드론 위치 수신까지
+ * - 4.order->fulfilled: 주문 생성 요청부터 배송 완료 알림 수신까지
+ *
+ * 실행: ./gradlew loadTest -Dloadtest.orders=5000 -Dloadtest.concurrency=128
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class PipelineLoadTest {
+
+    private static final String STAGE_CREATE = "1.order.create";
+    private static final String STAGE_DISPATCH = "2.dispatch.batch";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void fullPipeline() throws Exception {
+        LoadTestSettings settings = new LoadTestSettings();
+        StageMetrics metrics = new StageMetrics();
+
+        long generateStart = System.nanoTime();
+        SyntheticFleet fleet = SyntheticFleet.generate(jdbcTemplate, settings);
+        System.out.printf("[loadtest] %s%n[loadtest] 데이터 생성 %d ms%n", settings,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - generateStart));
+
+        try (OrderTracker tracker = new OrderTracker(metrics)) {
+            tracker.connect("ws://localhost:" + port + "/ws-native", settings.stompClients);
+
+            // 1. 동시 주문 생성
+            int created = createOrders(settings, fleet, metrics, tracker);
+            // 구독 등록이 브로커에 반영될 시간
+            Thread.sleep(1000);
+
+            // 2. 모든 주문이 할당될 때까지 배치 배송 반복
+            dispatchUntilAssigned(settings, metrics, created);
+
+            // 3. 배송 완료 알림 대기
+            boolean allFulfilled = tracker.awaitAllFulfilled(settings.timeoutSeconds);
+
+            System.out.printf("[loadtest] 결과%n%s", metrics.report());
+            System.out.printf("[loadtest] 위치 메시지 %d건, 배송 완료 %d/%d%n",
+                    tracker.positionMessageCount(), tracker.fulfilledCount(), tracker.trackedCount());
+
+            assertEquals(settings.orders, created, "주문 생성 실패가 있습니다.");
+            assertTrue(allFulfilled, "시간 안에 배송 완료 알림을 받지 못한 주문이 있습니다.");
+        }
+    }
+
+    /**
+     * 고객별 담당 매장으로 주문을 동시에 생성하고 구독 시작
+     *
+     * @return 생성에 성공한 주문 수
+     */
+    private int createOrders(LoadTestSettings settings, SyntheticFleet fleet, StageMetrics metrics,
+                             OrderTracker tracker) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(settings.seed + 1);
+        Semaphore permits = new Semaphore(settings.concurrency);
+        AtomicInteger created = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < settings.orders; i++) {
+                OrderCreateRequest request = randomOrder(random, fleet);
+                permits.acquire();
+                executor.submit(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        ResponseEntity<OrderCreateResponse> response =
+                                restTemplate.postForEntity("/api/orders", request, OrderCreateResponse.class);
+                        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                            metrics.record(STAGE_CREATE, start, System.nanoTime());
+                            tracker.track(response.getBody().getOrderId(), start);
+                            created.incrementAndGet();
+                        } else {
+                            metrics.fail(STAGE_CREATE);
+                        }
+                    } catch (Exception e) {
+                        metrics.fail(STAGE_CREATE);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+        }
+        return created.get();
+    }
+
+    private OrderCreateRequest randomOrder(SplittableRandom random, SyntheticFleet fleet) {
+        int customer = random.nextInt(fleet.customerIds.size());
+        int itemCount = 1 + random.nextInt(2);
+        List<OrderItemRequest> items = new ArrayList<>(itemCount);
+        int firstProduct = random.nextInt(fleet.productIds.size());
+        for (int j = 0; j < itemCount; j++) {
+            items.add(OrderItemRequest.builder()
+                    .productId(fleet.productIds.get((firstProduct + j) % fleet.productIds.size()))
+                    .quantity(1 + random.nextInt(2))
+                    .build());
+        }
+        return OrderCreateRequest.builder()
+                .storeId(fleet.homeStoreOfCustomer[customer])
+                .userId(fleet.customerIds.get(customer))
+                .items(items)
+                .build();
+    }
+
+    /**
+     * 생성한 주문이 모두 드론에 할당될 때까지 일정 간격으로 배치 배송 호출
+     * 대기 드론이 없으면 4xx가 올 수 있으므로 5xx만 실패로 셉니다.
+     */
+    private void dispatchUntilAssigned(LoadTestSettings settings, StageMetrics metrics, int created)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.timeoutSeconds);
+        int assigned = 0;
+        while (assigned < created && System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            try {
+                ResponseEntity<BatchDispatchResponse> response =
+                        restTemplate.postForEntity("/api/routes/batch-delivery", null, BatchDispatchResponse.class);
+                if (response.getStatusCode().is5xxServerError()) {
+                    metrics.fail(STAGE_DISPATCH);
+                } else {
+                    metrics.record(STAGE_DISPATCH, start, System.nanoTime());
+                    if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                        assigned += response.getBody().getAssignedOrderCount();
+                    }
+                }
+            } catch (Exception e) {
+                metrics.fail(STAGE_DISPATCH);
+            }
+            Thread.sleep(settings.dispatchIntervalMs);
+        }
+        System.out.printf("[loadtest] 배송 할당 %d/%d%n", assigned, created);
+    }
+}
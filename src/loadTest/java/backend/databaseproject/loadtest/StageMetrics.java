@@ -0,0 +1,87 @@
+package backend.databaseproject.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단계별 지연 시간/처리량 집계
+ * 여러 스레드에서 record/fail을 호출하고, 끝난 뒤 report로 백분위수 표를 만듭니다.
+ */
+final class StageMetrics {
+
+    private final Map<String, Stage> stages = new ConcurrentSkipListMap<>();
+
+    /**
+     * 성공한 작업 기록
+     *
+     * @param stage       단계 이름
+     * @param startNanos  시작 시각 (System.nanoTime)
+     * @param endNanos    종료 시각 (System.nanoTime)
+     */
+    void record(String stage, long startNanos, long endNanos) {
+        stage(stage).record(startNanos, endNanos);
+    }
+
+    void fail(String stage) {
+        stage(stage).failures.incrementAndGet();
+    }
+
+    long count(String stage) {
+        return stage(stage).latencies.size();
+    }
+
+    private Stage stage(String name) {
+        return stages.computeIfAbsent(name, key -> new Stage());
+    }
+
+    /**
+     * 단계별 결과 표
+     * 처리량은 해당 단계의 첫 작업 시작부터 마지막 작업 종료까지를 기준으로 계산합니다.
+     */
+    String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-22s %8s %6s %10s %9s %9s %9s %9s %9s%n",
+                "stage", "count", "fail", "ops/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9", "max(ms)"));
+        stages.forEach((name, stage) -> report.append(stage.summary(name)));
+        return report.toString();
+    }
+
+    private static final class Stage {
+
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong failures = new AtomicLong();
+        private final AtomicLong firstStart = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong lastEnd = new AtomicLong(Long.MIN_VALUE);
+
+        private void record(long startNanos, long endNanos) {
+            latencies.add(endNanos - startNanos);
+            firstStart.accumulateAndGet(startNanos, Math::min);
+            lastEnd.accumulateAndGet(endNanos, Math::max);
+        }
+
+        private String summary(String name) {
+            List<Long> copy = new ArrayList<>(latencies);
+            long[] sorted = copy.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            double windowSeconds = sorted.length == 0 ? 0 : (lastEnd.get() - firstStart.get()) / 1e9;
+            double throughput = windowSeconds > 0 ? sorted.length / windowSeconds : 0;
+            return String.format("%-22s %8d %6d %10.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    name, sorted.length, failures.get(), throughput,
+                    percentileMs(sorted, 0.50), percentileMs(sorted, 0.90), percentileMs(sorted, 0.99),
+                    percentileMs(sorted, 0.999), sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+        }
+
+        private static double percentileMs(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package backend.databaseproject.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 가상 매장/드론/상품/고객 생성
+ * data.sql보다 훨씬 많은 데이터를 JDBC 배치 INSERT로 한 번에 넣습니다 (JPA IDENTITY 저장의 행별 왕복 회피).
+ *
+ * - 매장은 수원 일대에 흩어 배치하고 배달 반경은 3km
+ * - 고객마다 담당 매장을 하나 정해 그 매장의 배달 반경 안(2.5km 이내)에 배치하므로, 생성한 주문은 모두 배달 가능
+ * - 상품 무게는 0.1~0.8kg, 모든 매장이 모든 상품을 넉넉한 재고로 판매
+ * - 드론은 적재량 5kg, 배터리 5000~6000mAh
+ */
+final class SyntheticFleet {
+
+    private static final double CENTER_LAT = 37.27;
+    private static final double CENTER_LNG = 127.03;
+    private static final double AREA_DEG = 0.12;
+    private static final double DELIVERY_RADIUS_KM = 3.0;
+    private static final double CUSTOMER_MAX_KM = 2.5;
+    private static final double KM_PER_DEGREE_LAT = 111.195;
+
+    final List<Long> storeIds;
+    final List<Long> productIds;
+    final List<Long> customerIds;
+    final long[] homeStoreOfCustomer;
+
+    private SyntheticFleet(List<Long> storeIds, List<Long> productIds, List<Long> customerIds,
+                           long[] homeStoreOfCustomer) {
+        this.storeIds = storeIds;
+        this.productIds = productIds;
+        this.customerIds = customerIds;
+        this.homeStoreOfCustomer = homeStoreOfCustomer;
+    }
+
+    static SyntheticFleet generate(JdbcTemplate jdbcTemplate, LoadTestSettings settings) {
+        SplittableRandom random = new SplittableRandom(settings.seed);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        // 1. 점주 (매장마다 1명)
+        List<Object[]> owners = new ArrayList<>(settings.stores);
+        for (int i = 0; i < settings.stores; i++) {
+            owners.add(new Object[]{"점주" + i, "010-9000-" + i, "부하 테스트 점주", CENTER_LAT, CENTER_LNG, "OWNER", now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user (name, phone, address, lat, lng, role, registered_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", owners);
+        List<Long> ownerIds = jdbcTemplate.queryForList(
+                "SELECT user_id FROM user WHERE role = 'OWNER' ORDER BY user_id", Long.class);
+
+        // 2. 매장
+        double[] storeLat = new double[settings.stores];
+        double[] storeLng = new double[settings.stores];
+        List<Object[]> stores = new ArrayList<>(settings.stores);
+        for (int i = 0; i < settings.stores; i++) {
+            storeLat[i] = round6(CENTER_LAT + random.nextDouble(-AREA_DEG, AREA_DEG));
+            storeLng[i] = round6(CENTER_LNG + random.nextDouble(-AREA_DEG, AREA_DEG));
+            stores.add(new Object[]{ownerIds.get(i), "부하 테스트 매장 " + i, "CONVENIENCE", "031-000-" + i,
+                    "부하 테스트 주소 " + i, storeLat[i], storeLng[i], DELIVERY_RADIUS_KM, true, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO store (owner_id, name, type, phone, address, lat, lng, " +
+                "delivery_radius_km, is_active, registered_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", stores);
+        List<Long> storeIds = jdbcTemplate.queryForList("SELECT store_id FROM store ORDER BY store_id", Long.class);
+
+        // 3. 상품
+        List<Object[]> products = new ArrayList<>(settings.products);
+        for (int i = 0; i < settings.products; i++) {
+            double weightKg = Math.round(random.nextDouble(0.1, 0.8) * 1000) / 1000.0;
+            products.add(new Object[]{"부하 테스트 상품 " + i, "테스트", weightKg, false, true});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO product (name, category, unit_weight_kg, requires_verification, " +
+                "is_active) VALUES (?, ?, ?, ?, ?)", products);
+        List<Long> productIds = jdbcTemplate.queryForList(
+                "SELECT product_id FROM product ORDER BY product_id", Long.class);
+
+        // 4. 매장별 판매 상품 (전 상품, 재고 충분)
+        List<Object[]> storeProducts = new ArrayList<>(storeIds.size() * productIds.size());
+        for (Long storeId : storeIds) {
+            for (Long productId : productIds) {
+                storeProducts.add(new Object[]{storeId, productId, 1000 + random.nextInt(40) * 100, 1_000_000, 10, true});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO store_product (store_id, product_id, price, stock_qty, " +
+                "max_qty_per_order, is_active) VALUES (?, ?, ?, ?, ?, ?)", storeProducts);
+
+        // 5. 드론
+        List<Object[]> drones = new ArrayList<>(storeIds.size() * settings.dronesPerStore);
+        for (Long storeId : storeIds) {
+            for (int d = 0; d < settings.dronesPerStore; d++) {
+                drones.add(new Object[]{storeId, "LoadTest X" + d, 5000 + random.nextInt(1001), 5.0, "IDLE", now});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO drone (store_id, model, battery_capacity, max_payload_kg, status, " +
+                "registered_at) VALUES (?, ?, ?, ?, ?, ?)", drones);
+
+        // 6. 고객 (담당 매장 배달 반경 안에 배치)
+        long[] homeStoreIndex = new long[settings.customers];
+        List<Object[]> customers = new ArrayList<>(settings.customers);
+        for (int i = 0; i < settings.customers; i++) {
+            int store = random.nextInt(settings.stores);
+            homeStoreIndex[i] = store;
+            double distanceKm = CUSTOMER_MAX_KM * Math.sqrt(random.nextDouble());
+            double bearing = random.nextDouble(0, 2 * Math.PI);
+            double lat = storeLat[store] + distanceKm * Math.cos(bearing) / KM_PER_DEGREE_LAT;
+            double lng = storeLng[store] + distanceKm * Math.sin(bearing)
+                    / (KM_PER_DEGREE_LAT * Math.cos(Math.toRadians(storeLat[store])));
+            customers.add(new Object[]{"고객" + i, "010-8000-" + i, "부하 테스트 고객 주소", round6(lat), round6(lng),
+                    "CUSTOMER", now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user (name, phone, address, lat, lng, role, registered_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", customers);
+        List<Long> customerIds = jdbcTemplate.queryForList(
+                "SELECT user_id FROM user WHERE role = 'CUSTOMER' ORDER BY user_id", Long.class);
+
+        long[] homeStoreOfCustomer = new long[customerIds.size()];
+        for (int i = 0; i < customerIds.size(); i++) {
+            homeStoreOfCustomer[i] = storeIds.get((int) homeStoreIndex[i]);
+        }
+        return new SyntheticFleet(storeIds, productIds, customerIds, homeStoreOfCustomer);
+    }
+
+    private static double round6(double value) {
+        return Math.round(value * 1_000_000) / 1_000_000.0;
+    }
+}
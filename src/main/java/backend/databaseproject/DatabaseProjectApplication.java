@@ -2,7 +2,6 @@ package backend.databaseproject;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.scheduling.annotation.EnableAsync;
 
 /**
  * 드론 배송 관리 시스템 메인 애플리케이션
@@ -20,7 +19,6 @@ import org.springframework.scheduling.annotation.EnableAsync;
  * - WebSocket: ws://localhost:8080/ws
  */
 @SpringBootApplication
-@EnableAsync  // 드론 시뮬레이터의 비동기 실행을 위해 필요
 public class DatabaseProjectApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,16 @@
+package backend.databaseproject.domain.drone.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 드론 대기(IDLE) 전환 이벤트
+ * 비행 완료 트랜잭션 안에서 발행되며, 커밋 후 연속 배송 디스패처가 해당 매장의 대기 주문을 바로 배송합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DroneIdleEvent {
+
+    private final Long droneId;
+    private final Long storeId;
+}
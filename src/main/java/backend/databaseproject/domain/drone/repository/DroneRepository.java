@@ -34,6 +34,11 @@ public interface DroneRepository extends JpaRepository<Drone, Long> {
      */
     Optional<Drone> findFirstByStoreAndStatus(Store store, DroneStatus status);
 
+    /**
+     * 특정 매장의 상태별 드론 목록 조회 (배치 처리 시 다중 드론 할당)
+     */
+    List<Drone> findByStoreAndStatus(Store store, DroneStatus status);
+
     /**
      * 대기 중인 드론 수 조회
      */
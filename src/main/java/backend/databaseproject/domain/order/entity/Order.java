@@ -93,7 +93,7 @@ public class Order {
                  BigDecimal originLat, BigDecimal originLng,
                  BigDecimal destLat, BigDecimal destLng,
                  BigDecimal totalWeightKg, Integer totalAmount, Integer itemCount,
-                 String note) {
+                 String note, LocalDateTime createdAt) {
         this.store = store;
         this.user = user;
         this.originLat = originLat;
@@ -105,6 +105,7 @@ public class Order {
         this.itemCount = itemCount;
         this.status = OrderStatus.CREATED;
         this.note = note;
+        this.createdAt = createdAt;
     }
 
     /**
@@ -117,26 +118,33 @@ public class Order {
 
     /**
      * 배송 할당
+     * 주문의 모든 시각은 같은 시계(시뮬레이션 시계)로 기록합니다.
+     *
+     * @param at 할당 시각
      */
-    public void assignDelivery() {
+    public void assignDelivery(LocalDateTime at) {
         this.status = OrderStatus.ASSIGNED;
-        this.assignedAt = LocalDateTime.now();
+        this.assignedAt = at;
     }
 
     /**
      * 배송 완료
+     *
+     * @param at 완료 시각
      */
-    public void completeDelivery() {
+    public void completeDelivery(LocalDateTime at) {
         this.status = OrderStatus.FULFILLED;
-        this.completedAt = LocalDateTime.now();
+        this.completedAt = at;
     }
 
     /**
      * 주문 취소
+     *
+     * @param at 취소 시각
      */
-    public void cancel() {
+    public void cancel(LocalDateTime at) {
         this.status = OrderStatus.CANCELED;
-        this.canceledAt = LocalDateTime.now();
+        this.canceledAt = at;
     }
 
     /**
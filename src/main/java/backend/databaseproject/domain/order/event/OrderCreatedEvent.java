@@ -0,0 +1,16 @@
+package backend.databaseproject.domain.order.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 주문 생성 이벤트
+ * 주문 생성 트랜잭션 안에서 발행되며, 커밋 후 연속 배송 디스패처가 매장별 배송을 예약합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderCreatedEvent {
+
+    private final Long orderId;
+    private final Long storeId;
+}
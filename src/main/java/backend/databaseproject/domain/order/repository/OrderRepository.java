@@ -3,10 +3,13 @@ package backend.databaseproject.domain.order.repository;
 import backend.databaseproject.domain.order.entity.Order;
 import backend.databaseproject.domain.order.entity.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +40,40 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "ORDER BY o.store.storeId, o.createdAt")
     List<Order> findPendingOrdersWithStoreAndUser(@Param("status") OrderStatus status);
 
+    /**
+     * 특정 매장의 배송 대기 주문 조회 (주문 시간순)
+     * 매장별 배치 처리 트랜잭션에서 사용, JOIN FETCH로 Store, User를 함께 조회
+     */
+    @Query("SELECT o FROM Order o " +
+           "JOIN FETCH o.store " +
+           "JOIN FETCH o.user " +
+           "WHERE o.store.storeId = :storeId AND o.status = :status " +
+           "ORDER BY o.createdAt")
+    List<Order> findPendingOrdersByStoreWithStoreAndUser(@Param("storeId") Long storeId,
+                                                         @Param("status") OrderStatus status);
+
+    /**
+     * 특정 상태의 주문이 있는 매장 ID 목록 조회
+     */
+    @Query("SELECT DISTINCT o.store.storeId FROM Order o WHERE o.status = :status")
+    List<Long> findStoreIdsByStatus(@Param("status") OrderStatus status);
+
+    /**
+     * 주문 ID 목록의 매장 ID 조회 (수동 배송 시작 시 매장 단위 잠금 대상 확인용)
+     */
+    @Query("SELECT DISTINCT o.store.storeId FROM Order o WHERE o.orderId IN :orderIds")
+    List<Long> findStoreIdsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    /**
+     * 주문 ID 목록으로 일괄 조회 (Store, User를 함께 조회)
+     * 수동 배송 시작 시 주문마다 findById를 호출하지 않도록 한 번의 쿼리로 조회
+     */
+    @Query("SELECT o FROM Order o " +
+           "JOIN FETCH o.store " +
+           "JOIN FETCH o.user " +
+           "WHERE o.orderId IN :orderIds")
+    List<Order> findAllByIdWithStoreAndUser(@Param("orderIds") Collection<Long> orderIds);
+
     /**
      * 특정 매장의 모든 주문 조회 (Store, User, OrderItems, Product를 함께 조회)
      * N+1 문제 방지: JOIN FETCH로 연관 엔티티들을 함께 조회
@@ -77,4 +114,19 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "LEFT JOIN FETCH oi.product " +
            "WHERE o.orderId = :orderId")
     Optional<Order> findByIdWithDetails(@Param("orderId") Long orderId);
+
+    /**
+     * 여러 주문을 한 번의 UPDATE로 배송 완료 처리
+     * DROP 정류장 출발 시 주문마다 엔티티를 수정하고 flush하지 않도록 사용
+     * 영속성 컨텍스트를 거치지 않으므로 실행 전 flush, 실행 후 clear 합니다.
+     *
+     * @return 변경된 주문 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o " +
+           "SET o.status = :status, o.completedAt = :completedAt " +
+           "WHERE o.orderId IN :orderIds")
+    int bulkCompleteDelivery(@Param("orderIds") Collection<Long> orderIds,
+                             @Param("status") OrderStatus status,
+                             @Param("completedAt") LocalDateTime completedAt);
 }
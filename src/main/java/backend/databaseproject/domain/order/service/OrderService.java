@@ -8,11 +8,13 @@ import backend.databaseproject.domain.order.dto.response.OrderResponse;
 import backend.databaseproject.domain.order.entity.Order;
 import backend.databaseproject.domain.order.entity.OrderItem;
 import backend.databaseproject.domain.order.entity.OrderStatus;
+import backend.databaseproject.domain.order.event.OrderCreatedEvent;
 import backend.databaseproject.domain.order.repository.OrderRepository;
 import backend.databaseproject.domain.order.repository.OrderItemRepository;
 import backend.databaseproject.domain.product.entity.Product;
 import backend.databaseproject.domain.product.repository.ProductRepository;
 import backend.databaseproject.domain.route.repository.RouteStopOrderRepository;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
 import backend.databaseproject.domain.store.entity.Store;
 import backend.databaseproject.domain.store.entity.StoreProduct;
 import backend.databaseproject.domain.store.repository.StoreProductRepository;
@@ -23,6 +25,7 @@ import backend.databaseproject.global.common.BaseException;
 import backend.databaseproject.global.common.ErrorCode;
 import backend.databaseproject.global.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -47,6 +50,8 @@ public class OrderService {
     private final StoreProductRepository storeProductRepository;
     private final DroneRepository droneRepository;
     private final RouteStopOrderRepository routeStopOrderRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimulationClock simulationClock;
 
     /**
      * 주문 생성
@@ -65,7 +70,8 @@ public class OrderService {
      * 9. Order 저장
      * 10. OrderItem들 생성하여 추가
      * 11. 재고 감소 (storeProduct.decreaseStock(quantity))
-     * 12. 저장 후 OrderCreateResponse 반환 (orderId만 포함)
+     * 12. 주문 생성 이벤트 발행 (커밋 후 연속 배송 디스패처가 처리)
+     * 13. 저장 후 OrderCreateResponse 반환 (orderId만 포함)
      */
     public OrderCreateResponse createOrder(OrderCreateRequest request) {
         // 1. Store 조회
@@ -141,6 +147,7 @@ public class OrderService {
 
         // 8. Order 생성
         // originLat/Lng는 Store, destLat/Lng는 User
+        // 생성 시각도 할당/완료 시각과 같은 시뮬레이션 시계로 기록 (대기/배송 소요 시간 계산용)
         Order order = Order.builder()
                 .store(store)
                 .user(user)
@@ -152,6 +159,7 @@ public class OrderService {
                 .totalAmount(totalAmount)
                 .itemCount(itemCount)
                 .note(request.getNote())
+                .createdAt(simulationClock.now())
                 .build();
 
         // 9. Order 저장
@@ -181,7 +189,10 @@ public class OrderService {
             storeProduct.decreaseStock(itemRequest.getQuantity());
         }
 
-        // 12. 저장 후 OrderCreateResponse 반환 (orderId만 포함)
+        // 12. 주문 생성 이벤트 발행
+        eventPublisher.publishEvent(new OrderCreatedEvent(savedOrder.getOrderId(), store.getStoreId()));
+
+        // 13. 저장 후 OrderCreateResponse 반환 (orderId만 포함)
         return OrderCreateResponse.of(savedOrder.getOrderId());
     }
 
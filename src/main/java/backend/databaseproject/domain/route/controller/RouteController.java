@@ -1,6 +1,7 @@
 package backend.databaseproject.domain.route.controller;
 
 import backend.databaseproject.domain.route.dto.request.StartDeliveryRequest;
+import backend.databaseproject.domain.route.dto.response.BatchDispatchResponse;
 import backend.databaseproject.domain.route.dto.response.DronePositionResponse;
 import backend.databaseproject.domain.route.dto.response.RouteResponse;
 import backend.databaseproject.domain.route.service.DeliveryBatchService;
@@ -140,7 +141,8 @@ public class RouteController {
             responses = {
                     @ApiResponse(
                             responseCode = "200",
-                            description = "배송 시작 성공"
+                            description = "배치 처리 완료 (매장별 결과 포함)",
+                            content = @Content(schema = @Schema(implementation = BatchDispatchResponse.class))
                     ),
                     @ApiResponse(
                             responseCode = "400",
@@ -172,13 +174,14 @@ public class RouteController {
      * 현재까지 쌓여있는 모든 주문들을 자동으로 배송 시작합니다.
      * 스케줄러나 관리자용 API입니다.
      *
-     * @return 성공 메시지
+     * @return 매장별 처리 결과와 전체 집계
      */
     @PostMapping("/batch-delivery")
     @Operation(
             summary = "배송 배치 처리 (전체 자동)",
             description = "현재까지 대기 중인 모든 주문을 자동으로 수집하여 배송을 시작합니다. " +
-                         "드론의 최대 무게와 배터리를 고려하여 먼저 온 주문 순으로 최적 경로를 탐색합니다. " +
+                         "매장별로 병렬 처리하며, 매장의 모든 대기 드론에 최대 무게와 배터리를 고려하여 주문을 나누고 최적 경로를 탐색합니다. " +
+                         "한 매장의 처리 실패는 다른 매장에 영향을 주지 않고 결과에 FAILED로 표시됩니다. " +
                          "스케줄러 또는 관리자용 API입니다.",
             responses = {
                     @ApiResponse(
@@ -191,12 +194,12 @@ public class RouteController {
                     )
             }
     )
-    public ResponseEntity<String> batchDelivery() {
+    public ResponseEntity<BatchDispatchResponse> batchDelivery() {
         log.info("API 호출: POST /api/routes/batch-delivery");
 
         try {
-            deliveryBatchService.processBatch();
-            return ResponseEntity.ok("배송 배치 처리가 완료되었습니다.");
+            BatchDispatchResponse response = deliveryBatchService.processBatch();
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
             log.error("배송 배치 처리 중 오류 발생", e);
             throw e;
@@ -0,0 +1,75 @@
+package backend.databaseproject.domain.route.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 배송 배치 처리 결과 응답 DTO
+ * 매장별 처리 결과와 전체 집계를 함께 반환합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "배송 배치 처리 결과")
+public class BatchDispatchResponse {
+
+    @Schema(description = "처리 대상 매장 수", example = "3")
+    private int storeCount;
+
+    @Schema(description = "처리 실패 매장 수", example = "0")
+    private int failedStoreCount;
+
+    @Schema(description = "생성된 경로 수", example = "5")
+    private int routeCount;
+
+    @Schema(description = "배송 할당된 주문 수", example = "18")
+    private int assignedOrderCount;
+
+    @Schema(description = "할당되지 못하고 다음 배치로 넘어간 주문 수", example = "2")
+    private int unassignedOrderCount;
+
+    @Schema(description = "배치 처리 소요 시간 (ms)", example = "420")
+    private long elapsedMs;
+
+    @Schema(description = "매장별 처리 결과")
+    private List<StoreResult> stores;
+
+    /**
+     * 매장별 처리 결과
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "매장별 배치 처리 결과")
+    public static class StoreResult {
+
+        @Schema(description = "매장 ID", example = "1")
+        private Long storeId;
+
+        @Schema(description = "처리 상태 (DISPATCHED: 경로 생성, SKIPPED: 드론/할당 가능 주문 없음, FAILED: 오류)",
+                example = "DISPATCHED")
+        private String status;
+
+        @Schema(description = "생성된 경로 ID 목록", example = "[10, 11]")
+        private List<Long> routeIds;
+
+        @Schema(description = "배송 할당된 주문 수", example = "6")
+        private int assignedOrderCount;
+
+        @Schema(description = "할당되지 못한 주문 수", example = "1")
+        private int unassignedOrderCount;
+
+        @Schema(description = "처리 소요 시간 (ms)", example = "130")
+        private long elapsedMs;
+
+        @Schema(description = "실패 또는 스킵 사유", example = "사용 가능한 드론이 없습니다.")
+        private String message;
+    }
+}
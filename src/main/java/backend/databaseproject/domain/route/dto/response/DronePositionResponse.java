@@ -1,6 +1,7 @@
 package backend.databaseproject.domain.route.dto.response;
 
 import backend.databaseproject.domain.route.entity.RoutePosition;
+import backend.databaseproject.domain.route.simulation.LatestPositionRegistry;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 
 /**
@@ -55,4 +57,18 @@ public class DronePositionResponse {
                 .ts(routePosition.getTs())
                 .build();
     }
+
+    /**
+     * 최신 위치 저장소의 위치를 DTO로 변환 (DB 저장 값과 같은 자릿수로 반올림)
+     */
+    public static DronePositionResponse from(LatestPositionRegistry.LatestPosition position) {
+        return DronePositionResponse.builder()
+                .routeId(position.getRouteId())
+                .lat(BigDecimal.valueOf(position.getLat()).setScale(6, RoundingMode.HALF_UP))
+                .lng(BigDecimal.valueOf(position.getLng()).setScale(6, RoundingMode.HALF_UP))
+                .speedMps(BigDecimal.valueOf(position.getSpeedMps()).setScale(2, RoundingMode.HALF_UP))
+                .batteryPct(BigDecimal.valueOf(position.getBatteryPct()).setScale(2, RoundingMode.HALF_UP))
+                .ts(position.getTs())
+                .build();
+    }
 }
@@ -97,16 +97,30 @@ public class Route {
      * 배송 시작
      */
     public void launch() {
+        launch(LocalDateTime.now());
+    }
+
+    /**
+     * 배송 시작 (시각 지정, 시뮬레이션 시계 사용 시)
+     */
+    public void launch(LocalDateTime at) {
         this.status = RouteStatus.LAUNCHED;
-        this.actualStartAt = LocalDateTime.now();
+        this.actualStartAt = at;
     }
 
     /**
      * 배송 완료
      */
     public void complete() {
+        complete(LocalDateTime.now());
+    }
+
+    /**
+     * 배송 완료 (시각 지정, 시뮬레이션 시계 사용 시)
+     */
+    public void complete(LocalDateTime at) {
         this.status = RouteStatus.COMPLETED;
-        this.actualEndAt = LocalDateTime.now();
+        this.actualEndAt = at;
     }
 
     /**
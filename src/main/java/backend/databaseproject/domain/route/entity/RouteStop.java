@@ -119,16 +119,30 @@ public class RouteStop {
      * 도착 표시
      */
     public void arrive() {
+        arrive(LocalDateTime.now());
+    }
+
+    /**
+     * 도착 표시 (시각 지정, 시뮬레이션 시계 사용 시)
+     */
+    public void arrive(LocalDateTime at) {
         this.status = StopStatus.ARRIVED;
-        this.actualArrivalAt = LocalDateTime.now();
+        this.actualArrivalAt = at;
     }
 
     /**
      * 출발 표시
      */
     public void depart() {
+        depart(LocalDateTime.now());
+    }
+
+    /**
+     * 출발 표시 (시각 지정, 시뮬레이션 시계 사용 시)
+     */
+    public void depart(LocalDateTime at) {
         this.status = StopStatus.DEPARTED;
-        this.actualDepartureAt = LocalDateTime.now();
+        this.actualDepartureAt = at;
     }
 
     /**
@@ -0,0 +1,158 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.global.util.GeoUtils;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배송 배치 단위 거리 행렬
+ * 매장을 노드 0, 배송 요청들을 노드 1..n으로 두고 모든 쌍의 거리를 한 번만 계산해 둡니다.
+ * 주문 선택, 무게/거리 검증, 경로 최적화, 총 거리 계산 등 배치의 모든 단계가 같은 행렬을 공유하므로
+ * BigDecimal 변환과 Haversine 계산이 단계마다 반복되지 않습니다.
+ *
+ * 내부 저장은 행 우선(row-major) 1차원 double 배열입니다.
+ */
+public final class DistanceMatrix {
+
+    public static final int STORE_NODE = 0;
+
+    private final int size;
+    private final double[] lat;
+    private final double[] lng;
+    private final double[] distances;
+    private final List<Order> orders;
+    private final Map<Order, Integer> nodeByOrder;
+
+    private DistanceMatrix(double[] lat, double[] lng, List<Order> orders) {
+        this.size = lat.length;
+        this.lat = lat;
+        this.lng = lng;
+        this.orders = orders;
+        this.distances = new double[size * size];
+        this.nodeByOrder = new IdentityHashMap<>(orders.size() * 2);
+
+        for (int i = 0; i < orders.size(); i++) {
+            nodeByOrder.put(orders.get(i), i + 1);
+        }
+
+        // 대칭 행렬: 위쪽 삼각형만 계산 후 복사
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                double distance = GeoUtils.calculateDistance(lat[i], lng[i], lat[j], lng[j]);
+                distances[i * size + j] = distance;
+                distances[j * size + i] = distance;
+            }
+        }
+    }
+
+    /**
+     * 매장과 배송 요청들로 거리 행렬 생성
+     *
+     * @param store  출발 매장 (노드 0)
+     * @param orders 배송 요청들 (노드 1..n, 리스트 순서대로)
+     */
+    public static DistanceMatrix of(Store store, List<Order> orders) {
+        int size = orders.size() + 1;
+        double[] lat = new double[size];
+        double[] lng = new double[size];
+
+        lat[STORE_NODE] = store.getLat().doubleValue();
+        lng[STORE_NODE] = store.getLng().doubleValue();
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            lat[i + 1] = order.getDestLat().doubleValue();
+            lng[i + 1] = order.getDestLng().doubleValue();
+        }
+
+        return new DistanceMatrix(lat, lng, List.copyOf(orders));
+    }
+
+    /**
+     * 좌표 배열로 거리 행렬 생성 (주문 매핑 없음, 벤치마크/시뮬레이션용)
+     *
+     * @param lat 노드별 위도 (lat[0] = 매장)
+     * @param lng 노드별 경도 (lng[0] = 매장)
+     */
+    public static DistanceMatrix ofCoordinates(double[] lat, double[] lng) {
+        if (lat.length != lng.length || lat.length == 0) {
+            throw new IllegalArgumentException("위도/경도 배열의 길이가 올바르지 않습니다.");
+        }
+        return new DistanceMatrix(lat.clone(), lng.clone(), List.of());
+    }
+
+    /**
+     * 노드 수 (매장 포함)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 두 노드 간 거리 (km)
+     */
+    public double distance(int from, int to) {
+        return distances[from * size + to];
+    }
+
+    /**
+     * 주문의 노드 번호 조회
+     * 같은 영속성 컨텍스트에서 조회한 주문 인스턴스를 기준으로 찾습니다.
+     *
+     * @throws IllegalArgumentException 이 행렬에 포함되지 않은 주문인 경우
+     */
+    public int nodeOf(Order order) {
+        Integer node = nodeByOrder.get(order);
+        if (node == null) {
+            throw new IllegalArgumentException("거리 행렬에 포함되지 않은 주문입니다: " + order.getOrderId());
+        }
+        return node;
+    }
+
+    /**
+     * 노드 번호에 해당하는 주문 조회 (노드 1..n)
+     */
+    public Order orderAt(int node) {
+        return orders.get(node - 1);
+    }
+
+    public double latOf(int node) {
+        return lat[node];
+    }
+
+    public double lngOf(int node) {
+        return lng[node];
+    }
+
+    /**
+     * 주문 순서대로 방문하는 경로의 총 거리 (매장 → 배송지들 → 매장)
+     */
+    public double tourDistance(List<Order> route) {
+        if (route.isEmpty()) {
+            return 0.0;
+        }
+
+        double totalDistance = 0.0;
+        int current = STORE_NODE;
+        for (Order order : route) {
+            int node = nodeOf(order);
+            totalDistance += distance(current, node);
+            current = node;
+        }
+        return totalDistance + distance(current, STORE_NODE);
+    }
+
+    /**
+     * 노드 배열 경로의 총 거리 (tour[0]부터 tour[length-1]까지 순서대로)
+     */
+    public double tourDistance(int[] tour) {
+        double totalDistance = 0.0;
+        for (int p = 0; p < tour.length - 1; p++) {
+            totalDistance += distance(tour[p], tour[p + 1]);
+        }
+        return totalDistance;
+    }
+}
@@ -0,0 +1,50 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다중 드론 경로 계획 (Capacitated VRP)
+ * 한 매장의 대기 주문들을 매장의 모든 대기 드론에 나누어 배정합니다.
+ *
+ * 드론을 주어진 순서(적재량이 큰 드론부터)대로 하나씩 채웁니다.
+ * 각 드론의 비행 1회분은 OrderSelectionEngine이 적재량과 비행 가능 거리 안에서
+ * 실을 수 있는 주문이 최대가 되도록 고르며(오래 기다린 주문 우선), 남은 주문이 다음 드론의 후보가 됩니다.
+ * 어느 드론에도 들어갈 수 없는 배송지는 배정하지 않고 다음 배치로 넘깁니다.
+ *
+ * 각 드론 경로의 방문 순서는 이후 RouteOptimizerService에서 다시 최적화되며,
+ * 최적화는 거리만 줄이므로 여기서 지킨 제약은 그대로 유지됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FleetRoutePlanner {
+
+    private final OrderSelectionEngine orderSelectionEngine;
+
+    /**
+     * 배송지를 드론별 경로로 분배
+     *
+     * @param nodes         배정할 배송지 노드들
+     * @param weightKg      nodes와 같은 순서의 주문 무게 (kg)
+     * @param ageMinutes    nodes와 같은 순서의 주문 대기 시간 (분)
+     * @param maxPayloadKg  드론별 최대 적재량 (kg)
+     * @param maxDistanceKm 드론별 최대 비행 가능 거리 (km, 안전 마진 포함)
+     * @param matrix        거리 행렬 (노드 0 = 매장)
+     * @return 드론별 경로 (매장 → 배송지들 → 매장), 배정된 배송지가 없는 드론은 [0, 0]
+     */
+    public int[][] plan(int[] nodes, double[] weightKg, double[] ageMinutes,
+                        double[] maxPayloadKg, double[] maxDistanceKm, DistanceMatrix matrix) {
+        if (nodes.length != weightKg.length || nodes.length != ageMinutes.length
+                || maxPayloadKg.length != maxDistanceKm.length) {
+            throw new IllegalArgumentException("배송지/드론 배열의 길이가 일치하지 않습니다.");
+        }
+
+        boolean[] taken = new boolean[nodes.length];
+        int[][] tours = new int[maxPayloadKg.length][];
+        for (int v = 0; v < maxPayloadKg.length; v++) {
+            tours[v] = orderSelectionEngine.select(nodes, weightKg, ageMinutes, taken,
+                    maxPayloadKg[v], maxDistanceKm[v], matrix);
+        }
+        return tours;
+    }
+}
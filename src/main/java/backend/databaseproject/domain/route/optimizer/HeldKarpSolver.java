@@ -0,0 +1,110 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Held-Karp 비트마스크 동적 계획법 TSP 솔버
+ * 매장에서 출발해 모든 배송지를 한 번씩 방문하고 매장으로 돌아오는 최적 경로를 구합니다.
+ *
+ * 시간 복잡도 O(2ᴺ × N²), 공간 복잡도 O(2ᴺ × N) 이므로 배송지가 적은 경로에만 사용합니다.
+ * (N = 12 기준 약 60만 회 연산, 수 ms 이내)
+ */
+@Component
+public class HeldKarpSolver {
+
+    /**
+     * 메모리 보호를 위한 최대 배송지 수 (2^16 × 16 = 약 100만 상태, 약 12MB)
+     */
+    public static final int MAX_NODES = 16;
+
+    private static final int NONE = -1;
+
+    /**
+     * 최적 경로 계산
+     *
+     * @param nodes  방문할 배송지 노드들 (1개 이상, MAX_NODES 이하)
+     * @param matrix 거리 행렬 (노드 0 = 매장)
+     * @return 매장 → 배송지들 → 매장 순서의 노드 배열
+     * @throws IllegalArgumentException 배송지 수가 범위를 벗어난 경우
+     */
+    public int[] solve(int[] nodes, DistanceMatrix matrix) {
+        int n = nodes.length;
+        if (n < 1 || n > MAX_NODES) {
+            throw new IllegalArgumentException(
+                    String.format("Held-Karp 솔버는 배송지 1~%d개만 지원합니다: %d개", MAX_NODES, n));
+        }
+
+        // 배송지 간 거리를 작은 지역 행렬로 복사 (DP 내부 루프의 인덱스 계산 최소화)
+        double[] local = new double[n * n];
+        double[] fromStore = new double[n];
+        double[] toStore = new double[n];
+        for (int i = 0; i < n; i++) {
+            fromStore[i] = matrix.distance(DistanceMatrix.STORE_NODE, nodes[i]);
+            toStore[i] = matrix.distance(nodes[i], DistanceMatrix.STORE_NODE);
+            for (int j = 0; j < n; j++) {
+                local[i * n + j] = matrix.distance(nodes[i], nodes[j]);
+            }
+        }
+
+        int full = 1 << n;
+        // cost[mask * n + last]: mask의 배송지를 모두 방문하고 last에서 끝나는 최소 거리
+        double[] cost = new double[full * n];
+        int[] parent = new int[full * n];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+
+        for (int k = 0; k < n; k++) {
+            cost[(1 << k) * n + k] = fromStore[k];
+            parent[(1 << k) * n + k] = NONE;
+        }
+
+        for (int mask = 1; mask < full; mask++) {
+            for (int last = 0; last < n; last++) {
+                if ((mask & (1 << last)) == 0) {
+                    continue;
+                }
+                double current = cost[mask * n + last];
+                if (current == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int next = 0; next < n; next++) {
+                    if ((mask & (1 << next)) != 0) {
+                        continue;
+                    }
+                    int nextState = (mask | (1 << next)) * n + next;
+                    double candidate = current + local[last * n + next];
+                    if (candidate < cost[nextState]) {
+                        cost[nextState] = candidate;
+                        parent[nextState] = last;
+                    }
+                }
+            }
+        }
+
+        // 매장 귀환까지 포함한 최소 경로의 마지막 배송지 선택
+        int mask = full - 1;
+        int bestLast = 0;
+        double best = Double.POSITIVE_INFINITY;
+        for (int last = 0; last < n; last++) {
+            double total = cost[mask * n + last] + toStore[last];
+            if (total < best) {
+                best = total;
+                bestLast = last;
+            }
+        }
+
+        // 역추적
+        int[] tour = new int[n + 2];
+        tour[0] = DistanceMatrix.STORE_NODE;
+        tour[n + 1] = DistanceMatrix.STORE_NODE;
+        int last = bestLast;
+        for (int p = n; p >= 1; p--) {
+            tour[p] = nodes[last];
+            int prev = parent[mask * n + last];
+            mask ^= 1 << last;
+            last = prev;
+        }
+        return tour;
+    }
+}
@@ -0,0 +1,246 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 병렬 다중 시작(Multi-Start) 경로 탐색
+ * 서로 다른 초기 경로(무작위 Nearest Neighbor, Regret 삽입) 여러 개를 만들고 각각 Local Search로 개선한 뒤
+ * 가장 짧은 경로를 선택합니다. 시작점들은 전용 ForkJoinPool에서 병렬로 실행되며,
+ * 모든 작업이 같은 마감 시각을 공유하므로 배송 배치의 지연 시간이 시간 예산을 넘지 않습니다.
+ *
+ * 첫 번째 시작점은 항상 결정적 Nearest Neighbor이므로 결과는 단일 시작 탐색보다 나빠지지 않습니다.
+ */
+@Component
+@Slf4j
+public class MultiStartTourSearch {
+
+    private static final int RANDOM_CANDIDATES = 3; // 무작위 NN에서 후보로 삼을 가까운 배송지 수
+    private static final double REGRET_NOISE = 0.15; // Regret 삽입 비용에 곱할 무작위 잡음 범위
+    private static final long TIMEOUT_GRACE_MS = 50;
+
+    private final ForkJoinPool pool;
+
+    public MultiStartTourSearch(@Value("${delivery.route-optimizer.multi-start.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0
+                ? parallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        this.pool = new ForkJoinPool(threads);
+        log.info("다중 시작 경로 탐색 풀 생성 - 병렬도: {}", threads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 다중 시작 탐색
+     *
+     * @param nodes      방문할 배송지 노드들
+     * @param matrix     거리 행렬 (노드 0 = 매장)
+     * @param pipeline   각 시작점에 적용할 개선 단계들 (상태 없는 구현이어야 함)
+     * @param starts     시작점 수
+     * @param timeBudgetMs 전체 시간 예산 (ms)
+     * @param maxIterations 시작점별 최대 반복 횟수
+     * @param seed       무작위 시드
+     * @return 가장 짧은 경로 (매장 → 배송지들 → 매장)
+     */
+    public int[] search(int[] nodes, DistanceMatrix matrix, List<TourImprover> pipeline,
+                        int starts, long timeBudgetMs, int maxIterations, long seed) {
+        long deadlineNanos = System.nanoTime() + timeBudgetMs * 1_000_000L;
+        SplittableRandom seeds = new SplittableRandom(seed);
+
+        List<Callable<int[]>> tasks = new ArrayList<>(starts);
+        for (int s = 0; s < starts; s++) {
+            int startIndex = s;
+            SplittableRandom random = seeds.split();
+            tasks.add(() -> runStart(startIndex, nodes, matrix, pipeline, random, deadlineNanos, maxIterations));
+        }
+
+        int[] best = null;
+        double bestDistance = Double.MAX_VALUE;
+        int completed = 0;
+
+        try {
+            List<Future<int[]>> futures = pool.invokeAll(tasks, timeBudgetMs + TIMEOUT_GRACE_MS, TimeUnit.MILLISECONDS);
+            for (Future<int[]> future : futures) {
+                int[] tour = resultOf(future);
+                if (tour == null) {
+                    continue;
+                }
+                completed++;
+                double distance = matrix.tourDistance(tour);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = tour;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (best == null) {
+            // 시간 예산 안에 끝난 시작점이 없으면 결정적 NN 경로를 그대로 사용
+            log.warn("다중 시작 탐색이 시간 예산 안에 완료되지 않아 Nearest Neighbor 경로를 사용합니다.");
+            best = randomizedNearestNeighbor(nodes, matrix, null);
+        }
+
+        log.info("다중 시작 탐색 완료 - 완료된 시작점: {}/{}, 최단 거리: {}km",
+                completed, starts, String.format("%.2f", matrix.tourDistance(best)));
+        return best;
+    }
+
+    private int[] runStart(int startIndex, int[] nodes, DistanceMatrix matrix, List<TourImprover> pipeline,
+                           SplittableRandom random, long deadlineNanos, int maxIterations) {
+        if (System.nanoTime() >= deadlineNanos) {
+            return null;
+        }
+
+        // 0번: 결정적 NN, 홀수: Regret 삽입, 짝수: 무작위 NN
+        int[] tour;
+        if (startIndex == 0) {
+            tour = randomizedNearestNeighbor(nodes, matrix, null);
+        } else if (startIndex % 2 == 1) {
+            tour = regretInsertion(nodes, matrix, random);
+        } else {
+            tour = randomizedNearestNeighbor(nodes, matrix, random);
+        }
+
+        long remainingMs = Math.max(0, (deadlineNanos - System.nanoTime()) / 1_000_000L);
+        SearchBudget budget = SearchBudget.of(remainingMs, maxIterations);
+        for (TourImprover improver : pipeline) {
+            if (budget.isExhausted()) {
+                break;
+            }
+            improver.improve(tour, matrix, budget);
+        }
+        return tour;
+    }
+
+    private int[] resultOf(Future<int[]> future) {
+        try {
+            return future.isCancelled() ? null : future.get();
+        } catch (CancellationException | ExecutionException e) {
+            log.debug("다중 시작 탐색 작업 실패", e);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Nearest Neighbor 구성 (random이 주어지면 가까운 후보 몇 개 중 무작위 선택)
+     */
+    private int[] randomizedNearestNeighbor(int[] nodes, DistanceMatrix matrix, SplittableRandom random) {
+        int n = nodes.length;
+        int[] tour = new int[n + 2];
+        boolean[] visited = new boolean[n];
+        int candidates = random == null ? 1 : RANDOM_CANDIDATES;
+        int[] nearest = new int[candidates];
+        double[] nearestDistance = new double[candidates];
+
+        int current = DistanceMatrix.STORE_NODE;
+        for (int p = 1; p <= n; p++) {
+            int found = 0;
+            // 방문하지 않은 배송지 중 가까운 순으로 candidates개 유지 (삽입 정렬)
+            for (int k = 0; k < n; k++) {
+                if (visited[k]) {
+                    continue;
+                }
+                double distance = matrix.distance(current, nodes[k]);
+                int pos;
+                if (found < candidates) {
+                    pos = found++;
+                } else if (distance < nearestDistance[candidates - 1]) {
+                    pos = candidates - 1;
+                } else {
+                    continue;
+                }
+                while (pos > 0 && nearestDistance[pos - 1] > distance) {
+                    nearest[pos] = nearest[pos - 1];
+                    nearestDistance[pos] = nearestDistance[pos - 1];
+                    pos--;
+                }
+                nearest[pos] = k;
+                nearestDistance[pos] = distance;
+            }
+
+            int chosen = nearest[random == null ? 0 : random.nextInt(found)];
+            tour[p] = nodes[chosen];
+            visited[chosen] = true;
+            current = nodes[chosen];
+        }
+        return tour;
+    }
+
+    /**
+     * Regret-2 삽입 구성
+     * 매번 "최선 삽입 비용과 차선 삽입 비용의 차이"가 가장 큰 배송지를 최선 위치에 삽입합니다.
+     * 나중에 넣으면 손해가 큰 배송지를 먼저 배치하므로 NN보다 외곽 배송지 처리가 좋습니다.
+     */
+    private int[] regretInsertion(int[] nodes, DistanceMatrix matrix, SplittableRandom random) {
+        int n = nodes.length;
+        int[] tour = new int[n + 2];
+        int length = 2; // tour[0..length-1] 사용 중, 처음엔 매장 → 매장
+        boolean[] inserted = new boolean[n];
+
+        for (int step = 0; step < n; step++) {
+            int bestNode = -1;
+            int bestPosition = -1;
+            double bestRegret = -1.0;
+            double bestCost = Double.MAX_VALUE;
+
+            for (int k = 0; k < n; k++) {
+                if (inserted[k]) {
+                    continue;
+                }
+                double noise = 1.0 + REGRET_NOISE * (random.nextDouble() - 0.5);
+                double first = Double.MAX_VALUE;
+                double second = Double.MAX_VALUE;
+                int firstPosition = -1;
+
+                for (int p = 0; p < length - 1; p++) {
+                    double cost = (matrix.distance(tour[p], nodes[k]) + matrix.distance(nodes[k], tour[p + 1])
+                            - matrix.distance(tour[p], tour[p + 1])) * noise;
+                    if (cost < first) {
+                        second = first;
+                        first = cost;
+                        firstPosition = p;
+                    } else if (cost < second) {
+                        second = cost;
+                    }
+                }
+
+                // 삽입 위치가 하나뿐이면 regret이 정의되지 않으므로 비용만으로 비교
+                double regret = second == Double.MAX_VALUE ? 0.0 : second - first;
+                if (regret > bestRegret || (regret == bestRegret && first < bestCost)) {
+                    bestRegret = regret;
+                    bestCost = first;
+                    bestNode = k;
+                    bestPosition = firstPosition;
+                }
+            }
+
+            // tour[bestPosition] 뒤에 삽입
+            System.arraycopy(tour, bestPosition + 1, tour, bestPosition + 2, length - bestPosition - 1);
+            tour[bestPosition + 1] = nodes[bestNode];
+            inserted[bestNode] = true;
+            length++;
+        }
+        return tour;
+    }
+}
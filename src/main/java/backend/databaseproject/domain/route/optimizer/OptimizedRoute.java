@@ -0,0 +1,45 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import backend.databaseproject.domain.order.entity.Order;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 경로 최적화 결과
+ * 최적화된 배송 순서와 함께, 실제로 사용된 알고리즘 체인과 개선 전/후 거리를 담습니다.
+ */
+@Getter
+public class OptimizedRoute {
+
+    /**
+     * 최적화된 순서의 배송 요청 리스트
+     */
+    private final List<Order> orders;
+
+    /**
+     * 사용된 알고리즘 체인 (예: "NearestNeighbor+2-opt+Or-opt"), Route.heuristic에 기록
+     */
+    private final String heuristic;
+
+    /**
+     * 초기 경로(구성 단계) 총 거리 (km)
+     */
+    private final double initialDistanceKm;
+
+    /**
+     * 최종 경로 총 거리 (km)
+     */
+    private final double distanceKm;
+
+    public OptimizedRoute(List<Order> orders, String heuristic, double initialDistanceKm, double distanceKm) {
+        this.orders = orders;
+        this.heuristic = heuristic;
+        this.initialDistanceKm = initialDistanceKm;
+        this.distanceKm = distanceKm;
+    }
+
+    public boolean isEmpty() {
+        return orders.isEmpty();
+    }
+}
@@ -0,0 +1,104 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Or-opt 개선
+ * 연속된 배송지 1~3개 구간을 떼어 경로의 다른 간선 사이로 옮깁니다 (필요하면 뒤집어서 삽입).
+ * 2-opt가 풀지 못하는 "한 곳만 잘못 끼어든" 배송지를 제자리로 옮기는 데 효과적입니다.
+ */
+@Component
+@Order(2)
+public class OrOptImprover implements TourImprover {
+
+    private static final int MAX_SEGMENT_LENGTH = 3;
+    private static final double EPSILON = 1e-9;
+
+    @Override
+    public String getName() {
+        return "Or-opt";
+    }
+
+    @Override
+    public boolean improve(int[] tour, DistanceMatrix dist, SearchBudget budget) {
+        int last = tour.length - 2; // 마지막 배송지 위치
+        if (last < 2) {
+            return false;
+        }
+
+        boolean improved = false;
+        boolean found = true;
+
+        while (found && !budget.isExhausted()) {
+            found = false;
+            budget.consumeIteration();
+
+            search:
+            for (int len = 1; len <= Math.min(MAX_SEGMENT_LENGTH, last - 1); len++) {
+                for (int i = 1; i + len - 1 <= last; i++) {
+                    int prev = tour[i - 1];
+                    int first = tour[i];
+                    int end = tour[i + len - 1];
+                    int next = tour[i + len];
+
+                    // 구간을 떼어냈을 때 줄어드는 거리
+                    double removeGain = dist.distance(prev, first) + dist.distance(end, next)
+                            - dist.distance(prev, next);
+
+                    // 구간 밖의 모든 간선 (tour[k] → tour[k+1])에 삽입 시도
+                    for (int k = 0; k <= last; k++) {
+                        if (k >= i - 1 && k <= i + len - 1) {
+                            continue;
+                        }
+                        int a = tour[k];
+                        int b = tour[k + 1];
+
+                        double forward = dist.distance(a, first) + dist.distance(end, b) - dist.distance(a, b);
+                        double reversed = dist.distance(a, end) + dist.distance(first, b) - dist.distance(a, b);
+
+                        if (forward - removeGain < -EPSILON) {
+                            moveSegment(tour, i, len, k, false);
+                            found = true;
+                            improved = true;
+                            break search;
+                        }
+                        if (reversed - removeGain < -EPSILON) {
+                            moveSegment(tour, i, len, k, true);
+                            found = true;
+                            improved = true;
+                            break search;
+                        }
+                    }
+                }
+            }
+        }
+
+        return improved;
+    }
+
+    /**
+     * tour[i..i+len-1] 구간을 원래 배열 기준 tour[k] 바로 뒤로 이동
+     */
+    private void moveSegment(int[] tour, int i, int len, int k, boolean reversed) {
+        int[] segment = new int[len];
+        for (int s = 0; s < len; s++) {
+            segment[s] = reversed ? tour[i + len - 1 - s] : tour[i + s];
+        }
+
+        int[] result = new int[tour.length];
+        int w = 0;
+        for (int p = 0; p < tour.length; p++) {
+            if (p >= i && p < i + len) {
+                continue;
+            }
+            result[w++] = tour[p];
+            if (p == k) {
+                for (int node : segment) {
+                    result[w++] = node;
+                }
+            }
+        }
+        System.arraycopy(result, 0, tour, 0, tour.length);
+    }
+}
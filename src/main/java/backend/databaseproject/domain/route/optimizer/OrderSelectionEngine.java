@@ -0,0 +1,265 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 드론 1회 비행에 실을 주문 선택 엔진
+ * 주문 시간순으로 들어가는 것만 담는 방식(first-fit)은 앞쪽의 무거운 주문 하나가 가벼운 주문 여러 개를 막아
+ * 적재량과 비행 거리가 남는 문제가 있습니다. 이 엔진은 다음 순서로 비행 1회분의 주문을 고릅니다.
+ *
+ * 1. 기아 방지: starvation-minutes 이상 기다린 주문을 오래된 순으로 먼저 삽입
+ * 2. 배낭(knapsack) 동적 계획법: 남은 적재량 안에서 가치(주문 수 또는 무게 + 대기 시간 가산점) 합이 최대인 조합 계산
+ * 3. 선택된 주문을 가치가 높은 순으로 최저비용 위치에 삽입 (비행 가능 거리를 넘으면 제외)
+ * 4. 채우기: 남은 적재량/거리에 들어가는 주문을 "추가 거리 / 가치"가 가장 작은 순으로 계속 삽입
+ *
+ * 배낭 단계는 적재량만 보므로, 실제 거리 제약은 삽입 단계에서 매번 확인합니다.
+ */
+@Component
+public class OrderSelectionEngine {
+
+    /**
+     * 선택 목표
+     */
+    public enum Objective {
+        COUNT,  // 비행당 주문 수 최대화
+        WEIGHT  // 비행당 적재 무게 최대화
+    }
+
+    private static final int MAX_CAPACITY_UNITS = 2000; // 배낭 DP 적재량 칸 수 상한
+    private static final double MIN_UNIT_KG = 0.01;
+    private static final double AGE_BONUS = 0.5; // 기아 기준 시간만큼 기다린 주문의 가치 가산 비율
+    private static final double EPSILON = 1e-9;
+
+    private final Objective objective;
+    private final double starvationMinutes;
+
+    public OrderSelectionEngine(
+            @Value("${delivery.order-selection.objective:COUNT}") Objective objective,
+            @Value("${delivery.order-selection.starvation-minutes:30}") double starvationMinutes) {
+        this.objective = objective;
+        this.starvationMinutes = starvationMinutes;
+    }
+
+    /**
+     * 드론 1대의 비행 경로에 실을 주문 선택
+     *
+     * @param nodes         후보 배송지 노드들
+     * @param weightKg      nodes와 같은 순서의 주문 무게 (kg)
+     * @param ageMinutes    nodes와 같은 순서의 주문 대기 시간 (분)
+     * @param taken         이미 다른 드론에 배정된 후보 표시 (선택된 후보는 true로 바뀜)
+     * @param maxPayloadKg  드론 최대 적재량 (kg)
+     * @param maxDistanceKm 드론 최대 비행 가능 거리 (km, 안전 마진 포함)
+     * @param matrix        거리 행렬 (노드 0 = 매장)
+     * @return 매장 → 선택된 배송지들 → 매장 순서의 노드 배열 (선택이 없으면 [0, 0])
+     */
+    public int[] select(int[] nodes, double[] weightKg, double[] ageMinutes, boolean[] taken,
+                        double maxPayloadKg, double maxDistanceKm, DistanceMatrix matrix) {
+        Flight flight = new Flight(nodes.length, maxPayloadKg, maxDistanceKm, matrix);
+        double[] value = new double[nodes.length];
+        for (int k = 0; k < nodes.length; k++) {
+            value[k] = valueOf(weightKg[k], ageMinutes[k]);
+        }
+
+        // 1. 기아 방지: 오래 기다린 주문 먼저
+        List<Integer> starving = new ArrayList<>();
+        for (int k = 0; k < nodes.length; k++) {
+            if (!taken[k] && ageMinutes[k] >= starvationMinutes) {
+                starving.add(k);
+            }
+        }
+        starving.sort((a, b) -> Double.compare(ageMinutes[b], ageMinutes[a]));
+        for (int k : starving) {
+            if (flight.tryInsert(nodes[k], weightKg[k])) {
+                taken[k] = true;
+            }
+        }
+
+        // 2. 남은 적재량으로 배낭 DP
+        List<Integer> chosen = knapsack(nodes, weightKg, value, taken, flight, matrix);
+
+        // 3. 가치가 높은 순으로 삽입
+        chosen.sort((a, b) -> Double.compare(value[b], value[a]));
+        for (int k : chosen) {
+            if (flight.tryInsert(nodes[k], weightKg[k])) {
+                taken[k] = true;
+            }
+        }
+
+        // 4. 남은 여유에 들어가는 주문 채우기
+        while (true) {
+            int best = -1;
+            double bestRatio = Double.MAX_VALUE;
+            for (int k = 0; k < nodes.length; k++) {
+                if (taken[k] || !flight.fitsPayload(weightKg[k])) {
+                    continue;
+                }
+                double cost = flight.insertionCost(nodes[k]);
+                if (cost == Double.MAX_VALUE) {
+                    continue;
+                }
+                double ratio = cost / Math.max(value[k], EPSILON);
+                if (ratio < bestRatio) {
+                    bestRatio = ratio;
+                    best = k;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            flight.tryInsert(nodes[best], weightKg[best]);
+            taken[best] = true;
+        }
+
+        return flight.toTour();
+    }
+
+    /**
+     * 주문 가치 (목표 기준값 × 대기 시간 가산점)
+     * 대기 시간 가산점은 기아 기준 시간에서 최대치(1 + AGE_BONUS)가 되므로,
+     * 오래된 주문 1건이 새 주문 2건보다 우선하지는 않습니다.
+     */
+    private double valueOf(double weightKg, double ageMinutes) {
+        double base = objective == Objective.WEIGHT ? weightKg : 1.0;
+        double age = starvationMinutes > 0 ? Math.min(1.0, ageMinutes / starvationMinutes) : 1.0;
+        return base * (1.0 + AGE_BONUS * age);
+    }
+
+    /**
+     * 0/1 배낭 동적 계획법 (남은 적재량 기준)
+     * 무게를 적재량 칸으로 올림 변환하므로 선택된 조합은 실제 무게로도 적재량을 넘지 않습니다.
+     */
+    private List<Integer> knapsack(int[] nodes, double[] weightKg, double[] value, boolean[] taken,
+                                   Flight flight, DistanceMatrix matrix) {
+        double residual = flight.residualPayload();
+        List<Integer> candidates = new ArrayList<>();
+        for (int k = 0; k < nodes.length; k++) {
+            double roundTrip = matrix.distance(DistanceMatrix.STORE_NODE, nodes[k])
+                    + matrix.distance(nodes[k], DistanceMatrix.STORE_NODE);
+            if (!taken[k] && weightKg[k] <= residual + EPSILON && roundTrip <= flight.maxDistanceKm + EPSILON) {
+                candidates.add(k);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        double unitKg = Math.max(MIN_UNIT_KG, residual / MAX_CAPACITY_UNITS);
+        int capacity = (int) Math.floor(residual / unitKg + EPSILON);
+        int m = candidates.size();
+
+        int[] units = new int[m];
+        for (int i = 0; i < m; i++) {
+            units[i] = (int) Math.ceil(weightKg[candidates.get(i)] / unitKg - EPSILON);
+        }
+
+        double[] best = new double[capacity + 1];
+        boolean[][] take = new boolean[m][capacity + 1];
+        for (int i = 0; i < m; i++) {
+            double v = value[candidates.get(i)];
+            for (int c = capacity; c >= units[i]; c--) {
+                double candidate = best[c - units[i]] + v;
+                if (candidate > best[c] + EPSILON) {
+                    best[c] = candidate;
+                    take[i][c] = true;
+                }
+            }
+        }
+
+        // 역추적
+        List<Integer> chosen = new ArrayList<>();
+        int c = capacity;
+        for (int i = m - 1; i >= 0; i--) {
+            if (take[i][c]) {
+                chosen.add(candidates.get(i));
+                c -= units[i];
+            }
+        }
+        return chosen;
+    }
+
+    /**
+     * 구성 중인 비행 경로 (매장 → 배송지들 → 매장)
+     */
+    private static final class Flight {
+
+        private final int[] tour;
+        private final double maxPayloadKg;
+        private final double maxDistanceKm;
+        private final DistanceMatrix matrix;
+        private int length = 2;
+        private double load;
+        private double distance;
+
+        private Flight(int capacity, double maxPayloadKg, double maxDistanceKm, DistanceMatrix matrix) {
+            this.tour = new int[capacity + 2];
+            this.maxPayloadKg = maxPayloadKg;
+            this.maxDistanceKm = maxDistanceKm;
+            this.matrix = matrix;
+            tour[0] = DistanceMatrix.STORE_NODE;
+            tour[1] = DistanceMatrix.STORE_NODE;
+        }
+
+        private double residualPayload() {
+            return maxPayloadKg - load;
+        }
+
+        private boolean fitsPayload(double weightKg) {
+            return load + weightKg <= maxPayloadKg + EPSILON;
+        }
+
+        /**
+         * 비행 가능 거리 안에서 가장 싼 삽입 비용 (삽입 불가 시 Double.MAX_VALUE)
+         */
+        private double insertionCost(int node) {
+            int position = bestPosition(node);
+            return position < 0 ? Double.MAX_VALUE : costAt(position, node);
+        }
+
+        private boolean tryInsert(int node, double weightKg) {
+            if (!fitsPayload(weightKg)) {
+                return false;
+            }
+            int position = bestPosition(node);
+            if (position < 0) {
+                return false;
+            }
+            double cost = costAt(position, node);
+            System.arraycopy(tour, position + 1, tour, position + 2, length - position - 1);
+            tour[position + 1] = node;
+            length++;
+            load += weightKg;
+            distance += cost;
+            return true;
+        }
+
+        /**
+         * 비행 가능 거리를 넘지 않는 최저비용 삽입 위치 (tour[p] 뒤), 없으면 -1
+         */
+        private int bestPosition(int node) {
+            int best = -1;
+            double bestCost = Double.MAX_VALUE;
+            for (int p = 0; p < length - 1; p++) {
+                double cost = costAt(p, node);
+                if (distance + cost <= maxDistanceKm + EPSILON && cost < bestCost) {
+                    bestCost = cost;
+                    best = p;
+                }
+            }
+            return best;
+        }
+
+        private double costAt(int p, int node) {
+            return matrix.distance(tour[p], node) + matrix.distance(node, tour[p + 1])
+                    - matrix.distance(tour[p], tour[p + 1]);
+        }
+
+        private int[] toTour() {
+            return Arrays.copyOf(tour, length);
+        }
+    }
+}
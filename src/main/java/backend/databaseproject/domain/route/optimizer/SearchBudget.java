@@ -0,0 +1,46 @@
+package backend.databaseproject.domain.route.optimizer;
+
+/**
+ * 경로 개선(Local Search) 탐색 예산
+ * 시간 제한과 반복 횟수 제한 중 먼저 도달한 쪽에서 탐색을 멈춥니다.
+ * 하나의 예산을 개선 파이프라인 전체가 공유합니다.
+ */
+public final class SearchBudget {
+
+    private final long deadlineNanos;
+    private final int maxIterations;
+    private int iterations;
+
+    private SearchBudget(long deadlineNanos, int maxIterations) {
+        this.deadlineNanos = deadlineNanos;
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * 지금부터 timeLimitMs 동안, 최대 maxIterations 회까지 탐색하는 예산 생성
+     *
+     * @param timeLimitMs   시간 제한 (ms)
+     * @param maxIterations 최대 반복 횟수 (이웃 탐색 1회 = 1)
+     */
+    public static SearchBudget of(long timeLimitMs, int maxIterations) {
+        return new SearchBudget(System.nanoTime() + timeLimitMs * 1_000_000L, maxIterations);
+    }
+
+    /**
+     * 예산 소진 여부
+     */
+    public boolean isExhausted() {
+        return iterations >= maxIterations || System.nanoTime() >= deadlineNanos;
+    }
+
+    /**
+     * 반복 1회 소비
+     */
+    public void consumeIteration() {
+        iterations++;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+}
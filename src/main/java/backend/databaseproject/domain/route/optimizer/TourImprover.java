@@ -0,0 +1,26 @@
+package backend.databaseproject.domain.route.optimizer;
+
+/**
+ * 경로 개선 단계 (Local Search)
+ * 초기 경로(Nearest Neighbor 등)를 입력받아 총 거리가 줄어드는 방향으로 경로를 제자리에서 수정합니다.
+ * 구현체는 Spring Bean으로 등록되며, RouteOptimizerService가 설정된 순서대로 파이프라인을 구성합니다.
+ *
+ * 경로 표현: tour[0]과 tour[tour.length - 1]은 매장(노드 0), 그 사이가 배송지 노드입니다.
+ */
+public interface TourImprover {
+
+    /**
+     * 개선 단계 이름 (설정 값 및 Route.heuristic 기록에 사용)
+     */
+    String getName();
+
+    /**
+     * 경로 개선
+     *
+     * @param tour   매장 → 배송지들 → 매장 순서의 노드 배열 (제자리 수정)
+     * @param dist   노드 간 거리 행렬 (km)
+     * @param budget 탐색 예산
+     * @return 경로가 한 번이라도 개선되었으면 true
+     */
+    boolean improve(int[] tour, DistanceMatrix dist, SearchBudget budget);
+}
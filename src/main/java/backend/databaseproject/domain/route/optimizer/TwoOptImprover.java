@@ -0,0 +1,69 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2-opt 개선
+ * 두 간선 (a→b), (c→d)를 (a→c), (b→d)로 교체하고 그 사이 구간을 뒤집어 교차된 경로를 풉니다.
+ * 개선되는 이동이 없거나 예산이 소진될 때까지 반복합니다.
+ */
+@Component
+@Order(1)
+public class TwoOptImprover implements TourImprover {
+
+    private static final double EPSILON = 1e-9;
+
+    @Override
+    public String getName() {
+        return "2-opt";
+    }
+
+    @Override
+    public boolean improve(int[] tour, DistanceMatrix dist, SearchBudget budget) {
+        int last = tour.length - 2; // 마지막 배송지 위치
+        if (last < 2) {
+            return false;
+        }
+
+        boolean improved = false;
+        boolean found = true;
+
+        while (found && !budget.isExhausted()) {
+            found = false;
+            budget.consumeIteration();
+
+            for (int i = 1; i < last; i++) {
+                for (int j = i + 1; j <= last; j++) {
+                    int a = tour[i - 1];
+                    int b = tour[i];
+                    int c = tour[j];
+                    int d = tour[j + 1];
+
+                    double delta = dist.distance(a, c) + dist.distance(b, d)
+                            - dist.distance(a, b) - dist.distance(c, d);
+                    if (delta < -EPSILON) {
+                        reverse(tour, i, j);
+                        found = true;
+                        improved = true;
+                    }
+                }
+            }
+        }
+
+        return improved;
+    }
+
+    /**
+     * tour[from..to] 구간 뒤집기
+     */
+    private void reverse(int[] tour, int from, int to) {
+        while (from < to) {
+            int tmp = tour[from];
+            tour[from] = tour[to];
+            tour[to] = tmp;
+            from++;
+            to--;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package backend.databaseproject.domain.route.repository;
+
+import backend.databaseproject.domain.route.simulation.PositionSample;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 드론 위치 일괄 저장 Repository
+ * RoutePosition은 IDENTITY 전략이라 JPA로 저장하면 위치 하나마다 INSERT 왕복이 발생합니다.
+ * 위치 기록기(PositionWriter)가 모은 위치를 JdbcTemplate 배치로 한 번에 저장합니다.
+ * (rewriteBatchedStatements=true 설정으로 MySQL에서는 다중 행 INSERT로 전송됨)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoutePositionBatchRepository {
+
+    private static final String INSERT_ROUTE_POSITION =
+            "INSERT INTO route_position (route_id, stop_from_id, stop_to_id, lat, lng, speed_mps, battery_pct, ts) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 위치 일괄 저장
+     *
+     * @param samples 저장할 위치들
+     */
+    public void saveAll(List<PositionSample> samples) {
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ROUTE_POSITION, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                PositionSample sample = samples.get(i);
+                ps.setLong(1, sample.getRouteId());
+                if (sample.getStopFromId() > 0) {
+                    ps.setLong(2, sample.getStopFromId());
+                } else {
+                    ps.setNull(2, Types.BIGINT);
+                }
+                ps.setLong(3, sample.getStopToId());
+                ps.setBigDecimal(4, scaled(sample.getLat(), 6));
+                ps.setBigDecimal(5, scaled(sample.getLng(), 6));
+                ps.setBigDecimal(6, scaled(sample.getSpeedMps(), 2));
+                ps.setBigDecimal(7, scaled(sample.getBatteryPct(), 2));
+                ps.setTimestamp(8, Timestamp.valueOf(sample.getTs()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return samples.size();
+            }
+        });
+    }
+
+    private static BigDecimal scaled(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,136 @@
+package backend.databaseproject.domain.route.repository;
+
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.RouteStopOrder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로 정류장 / 정류장-주문 매핑 일괄 저장 Repository
+ * RouteStop, RouteStopOrder는 IDENTITY 전략이라 Hibernate가 INSERT를 묶지 못하고 행마다 왕복이 발생합니다.
+ * 경로 생성 시에는 JdbcTemplate 배치로 정류장 전체를 1번, 정류장-주문 매핑 전체를 1번에 저장합니다.
+ *
+ * JPA 트랜잭션과 같은 커넥션을 사용하므로 먼저 저장한 Route와 같은 트랜잭션에 묶입니다.
+ * 저장된 행은 영속성 컨텍스트에 올라가지 않으므로, 같은 트랜잭션에서 다시 조회할 일이 없는 경로 생성 시점에만 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RouteStopBatchRepository {
+
+    private static final String INSERT_ROUTE_STOP =
+            "INSERT INTO route_stop (route_id, stop_sequence, type, name, lat, lng, " +
+            "planned_arrival_at, planned_departure_at, status, payload_delta_kg, store_id, user_id, note) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_ROUTE_STOP_ORDER =
+            "INSERT INTO route_stop_order (stop_id, order_id, created_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 정류장과 정류장에 매달린 주문 매핑(RouteStop.routeStopOrders)을 일괄 저장
+     *
+     * @param routeId   이미 저장된 경로 ID
+     * @param stops     저장할 정류장들 (정류장 순서대로)
+     * @param createdAt 정류장-주문 매핑 생성 시각 (시뮬레이션 시계)
+     * @return 저장된 정류장 ID (stops와 같은 순서)
+     */
+    public List<Long> saveAllWithOrders(Long routeId, List<RouteStop> stops, LocalDateTime createdAt) {
+        if (stops.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 정류장 일괄 INSERT (생성된 stop_id 회수)
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_ROUTE_STOP, new String[]{"stop_id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        RouteStop stop = stops.get(i);
+                        ps.setLong(1, routeId);
+                        ps.setInt(2, stop.getStopSequence());
+                        ps.setString(3, stop.getStopType().name());
+                        ps.setString(4, stop.getName());
+                        ps.setBigDecimal(5, stop.getLat());
+                        ps.setBigDecimal(6, stop.getLng());
+                        setTimestamp(ps, 7, stop.getPlannedArrivalAt());
+                        setTimestamp(ps, 8, stop.getPlannedDepartureAt());
+                        ps.setString(9, stop.getStatus().name());
+                        setBigDecimal(ps, 10, stop.getPayloadDeltaKg());
+                        setLong(ps, 11, stop.getStore() != null ? stop.getStore().getStoreId() : null);
+                        setLong(ps, 12, stop.getUser() != null ? stop.getUser().getUserId() : null);
+                        ps.setString(13, stop.getNote());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return stops.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != stops.size()) {
+            throw new IllegalStateException(String.format(
+                    "정류장 ID 회수 실패 - 저장: %d건, 생성된 ID: %d건", stops.size(), keys.size()));
+        }
+
+        List<Long> stopIds = new ArrayList<>(stops.size());
+        for (Map<String, Object> key : keys) {
+            stopIds.add(((Number) key.values().iterator().next()).longValue());
+        }
+
+        // 2. 정류장-주문 매핑 일괄 INSERT
+        List<Object[]> mappings = new ArrayList<>();
+        Timestamp mappedAt = Timestamp.valueOf(createdAt);
+        for (int i = 0; i < stops.size(); i++) {
+            for (RouteStopOrder routeStopOrder : stops.get(i).getRouteStopOrders()) {
+                mappings.add(new Object[]{stopIds.get(i), routeStopOrder.getOrder().getOrderId(), mappedAt});
+            }
+        }
+        if (!mappings.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ROUTE_STOP_ORDER, mappings);
+        }
+
+        return stopIds;
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        }
+    }
+
+    private static void setBigDecimal(PreparedStatement ps, int index, BigDecimal value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DECIMAL);
+        } else {
+            ps.setBigDecimal(index, value);
+        }
+    }
+
+    private static void setLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
@@ -39,6 +39,17 @@ public interface RouteStopOrderRepository extends JpaRepository<RouteStopOrder,
            "WHERE rso.order.orderId IN :orderIds")
     List<Object[]> findRouteIdsByOrderIds(@Param("orderIds") List<Long> orderIds);
 
+    /**
+     * 정류장에 연결된 주문 ID 목록 조회
+     * 주문 엔티티를 로딩하지 않고 ID만 조회
+     *
+     * @param stopId 정류장 ID
+     * @return 주문 ID 리스트
+     */
+    @Query("SELECT rso.order.orderId FROM RouteStopOrder rso " +
+           "WHERE rso.routeStop.stopId = :stopId")
+    List<Long> findOrderIdsByStopId(@Param("stopId") Long stopId);
+
     /**
      * 여러 주문 ID들의 경로 ID를 Map으로 조회하는 편의 메서드
      * N+1 문제 방지: 배치 조회 후 Map으로 변환
@@ -0,0 +1,159 @@
+package backend.databaseproject.domain.route.scheduler;
+
+import backend.databaseproject.domain.drone.event.DroneIdleEvent;
+import backend.databaseproject.domain.order.entity.OrderStatus;
+import backend.databaseproject.domain.order.event.OrderCreatedEvent;
+import backend.databaseproject.domain.order.repository.OrderRepository;
+import backend.databaseproject.domain.route.dto.response.BatchDispatchResponse;
+import backend.databaseproject.domain.route.service.DeliveryBatchService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 연속 배송 디스패처
+ * 10분 단위 배치 대신, 주문 생성과 드론 대기(IDLE) 전환 이벤트에 반응하여 매장별로 바로 배송을 시작합니다.
+ *
+ * - 주문 생성: 매장별로 consolidation-window-ms 동안 주문을 모은 뒤 배송 (같은 창 안의 주문은 한 번에 경로 계획)
+ * - 드론 IDLE 전환: 해당 매장에 대기 주문이 있으면 창을 기다리지 않고 즉시 배송
+ * - 주기 점검: 이벤트를 놓친 주문(서버 재시작 등)을 위해 sweep-interval-ms마다 대기 주문이 있는 매장을 다시 예약
+ *
+ * 실제 배정은 DeliveryBatchService.processStore가 매장 단위 독립 트랜잭션으로 처리합니다.
+ * 수동 배송(점주 선택, processSelectedOrders)도 같은 매장 잠금 아래에서 실행되므로 함께 켜도 같은 드론/주문이 중복 배정되지는 않지만,
+ * 대기 주문을 디스패처가 먼저 가져가 수동 배송 요청이 이미 처리된 주문으로 거절될 수 있어 기본값은 비활성화입니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "delivery.continuous-dispatch", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ContinuousDispatcher {
+
+    private final DeliveryBatchService deliveryBatchService;
+    private final OrderRepository orderRepository;
+
+    @Value("${delivery.continuous-dispatch.consolidation-window-ms:5000}")
+    private long consolidationWindowMs;
+
+    @Value("${delivery.continuous-dispatch.threads:2}")
+    private int threads;
+
+    private ScheduledExecutorService dispatchScheduler;
+
+    /**
+     * 매장별 예약된 배송 작업 (매장당 최대 1개)
+     */
+    private final Map<Long, ScheduledFuture<?>> scheduledDispatches = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        dispatchScheduler = Executors.newScheduledThreadPool(Math.max(1, threads),
+                runnable -> new Thread(runnable, "continuous-dispatch-" + threadNumber.incrementAndGet()));
+        log.info("연속 배송 디스패처 활성화 - 주문 모음 시간: {}ms, 스레드: {}개", consolidationWindowMs, threads);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatchScheduler.shutdownNow();
+    }
+
+    /**
+     * 주문 생성 커밋 후: 매장 배송을 모음 시간 뒤로 예약
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderCreated(OrderCreatedEvent event) {
+        log.debug("주문 생성 이벤트 - OrderId: {}, StoreId: {}", event.getOrderId(), event.getStoreId());
+        requestDispatch(event.getStoreId(), consolidationWindowMs);
+    }
+
+    /**
+     * 드론 IDLE 전환 커밋 후: 매장 배송을 즉시 예약
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDroneIdle(DroneIdleEvent event) {
+        log.debug("드론 대기 전환 이벤트 - DroneId: {}, StoreId: {}", event.getDroneId(), event.getStoreId());
+        requestDispatch(event.getStoreId(), 0L);
+    }
+
+    /**
+     * 서버 시작 시 이미 쌓여 있는 대기 주문 처리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        sweepPendingStores();
+    }
+
+    /**
+     * 주기 점검: 이벤트를 놓친 대기 주문이 있는 매장을 다시 예약
+     */
+    @Scheduled(fixedDelayString = "${delivery.continuous-dispatch.sweep-interval-ms:60000}",
+            initialDelayString = "${delivery.continuous-dispatch.sweep-interval-ms:60000}")
+    public void sweepPendingStores() {
+        List<Long> storeIds = orderRepository.findStoreIdsByStatus(OrderStatus.CREATED);
+        if (!storeIds.isEmpty()) {
+            log.info("대기 주문 점검 - 매장 {}곳 배송 예약", storeIds.size());
+        }
+        for (Long storeId : storeIds) {
+            requestDispatch(storeId, consolidationWindowMs);
+        }
+    }
+
+    /**
+     * 매장 배송 예약
+     * 이미 더 이른 시각에 예약되어 있으면 그대로 두고, 더 늦게 예약되어 있으면 앞당깁니다.
+     * 따라서 모음 시간 안에 들어온 주문들은 한 번의 배송 계획으로 묶입니다.
+     * 이미 실행이 시작된 예약(남은 시간 0 이하)은 처리 중 들어온 주문을 놓칠 수 있으므로 새로 예약합니다.
+     */
+    private void requestDispatch(Long storeId, long delayMs) {
+        scheduledDispatches.compute(storeId, (id, existing) -> {
+            if (existing != null && !existing.isDone()) {
+                long remainingMs = existing.getDelay(TimeUnit.MILLISECONDS);
+                if (remainingMs > 0 && remainingMs <= delayMs) {
+                    return existing;
+                }
+                if (remainingMs > 0) {
+                    existing.cancel(false);
+                }
+            }
+            AtomicReference<ScheduledFuture<?>> self = new AtomicReference<>();
+            ScheduledFuture<?> future = dispatchScheduler.schedule(() -> dispatch(id, self),
+                    delayMs, TimeUnit.MILLISECONDS);
+            self.set(future);
+            return future;
+        });
+    }
+
+    private void dispatch(Long storeId, AtomicReference<ScheduledFuture<?>> self) {
+        // 실행 시작 전에 자신의 예약만 해제하여, 처리 중 들어온 이벤트는 다음 배송으로 예약되도록 함
+        // (compute 안에서 self가 채워지므로 같은 키의 computeIfPresent는 항상 채워진 값을 봄)
+        scheduledDispatches.computeIfPresent(storeId, (id, current) -> current == self.get() ? null : current);
+
+        try {
+            BatchDispatchResponse.StoreResult result = deliveryBatchService.processStore(storeId);
+            log.info("연속 배송 - StoreId: {}, 상태: {}, 경로: {}개, 할당: {}건, 미배정: {}건",
+                    storeId, result.getStatus(), result.getRouteIds().size(),
+                    result.getAssignedOrderCount(), result.getUnassignedOrderCount());
+        } catch (Exception e) {
+            log.error("연속 배송 처리 중 오류 발생 - StoreId: {}", storeId, e);
+        }
+    }
+}
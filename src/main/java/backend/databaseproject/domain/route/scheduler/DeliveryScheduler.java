@@ -19,6 +19,7 @@ public class DeliveryScheduler {
 
     /**
      * 매 10분마다 배송 배치 처리 실행 (현재 비활성화 - 수동 배송 시작 API 사용)
+     * 자동 배송이 필요하면 이벤트 기반 ContinuousDispatcher(delivery.continuous-dispatch.enabled) 사용 권장
      * cron 표현식: "초 분 시 일 월 요일"
      * 매 10분마다 실행 (0분, 10분, 20분, 30분, 40분, 50분)
      */
@@ -6,25 +6,42 @@ import backend.databaseproject.domain.drone.repository.DroneRepository;
 import backend.databaseproject.domain.order.entity.Order;
 import backend.databaseproject.domain.order.entity.OrderStatus;
 import backend.databaseproject.domain.order.repository.OrderRepository;
+import backend.databaseproject.domain.route.dto.response.BatchDispatchResponse;
 import backend.databaseproject.domain.route.entity.*;
+import backend.databaseproject.domain.route.optimizer.DistanceMatrix;
+import backend.databaseproject.domain.route.optimizer.FleetRoutePlanner;
+import backend.databaseproject.domain.route.optimizer.OptimizedRoute;
 import backend.databaseproject.domain.route.repository.RouteRepository;
-import backend.databaseproject.domain.route.repository.RouteStopRepository;
-import backend.databaseproject.domain.route.repository.RouteStopOrderRepository;
+import backend.databaseproject.domain.route.repository.RouteStopBatchRepository;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
 import backend.databaseproject.domain.store.entity.Store;
-import backend.databaseproject.domain.store.repository.StoreRepository;
 import backend.databaseproject.global.exception.BatteryInsufficientException;
 import backend.databaseproject.global.exception.PayloadExceededException;
-import backend.databaseproject.global.util.GeoUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -39,19 +56,53 @@ public class DeliveryBatchService {
     private final OrderRepository orderRepository;
     private final DroneRepository droneRepository;
     private final RouteRepository routeRepository;
-    private final RouteStopRepository routeStopRepository;
-    private final RouteStopOrderRepository routeStopOrderRepository;
-    private final StoreRepository storeRepository;
+    private final RouteStopBatchRepository routeStopBatchRepository;
     private final RouteOptimizerService routeOptimizerService;
+    private final FleetRoutePlanner fleetRoutePlanner;
     private final DroneSimulatorService droneSimulatorService;
+    private final PlatformTransactionManager transactionManager;
+    private final SimulationClock simulationClock;
+
+    /**
+     * 매장별 병렬 처리 스레드 수 (매장마다 DB 커넥션 1개를 사용하므로 커넥션 풀보다 작게)
+     */
+    @Value("${delivery.batch.dispatch-threads:4}")
+    private int dispatchThreads;
+
+    @Value("${delivery.batch.queue-capacity:100}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor batchDispatchExecutor;
+    private final Map<Long, Object> storeLocks = new ConcurrentHashMap<>();
 
     private static final double DRONE_SPEED_KMH = 30.0; // 드론 평균 속도
     private static final int STOP_DELAY_MIN = 2; // 각 stop당 지연 시간 (분)
+    private static final String STORE_DISPATCHED = "DISPATCHED";
+    private static final String STORE_SKIPPED = "SKIPPED";
+    private static final String STORE_FAILED = "FAILED";
+    private static final String FLEET_HEURISTIC = "KnapsackInsertion"; // 다중 드론 배정 단계 경로를 그대로 쓸 때
 
     // 배터리-거리 변환 상수
     private static final double BATTERY_TO_DISTANCE_RATIO = 0.004; // mAh당 km (5000mAh = 20km 기준)
     private static final double SAFETY_MARGIN = 0.8; // 안전 마진 (80% 사용, 20% 여유)
 
+    @PostConstruct
+    void initDispatchExecutor() {
+        int threads = Math.max(1, dispatchThreads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 큐가 가득 차면 호출 스레드에서 직접 처리 (매장이 누락되지 않도록)
+        batchDispatchExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> new Thread(runnable, "batch-dispatch-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        log.info("배송 배치 매장별 처리 스레드: {}개", threads);
+    }
+
+    @PreDestroy
+    void shutdownDispatchExecutor() {
+        batchDispatchExecutor.shutdown();
+    }
+
     /**
      * 선택된 주문들로 배송 시작
      * 점주가 선택한 주문 ID들을 받아 배송을 시작합니다.
@@ -61,19 +112,41 @@ public class DeliveryBatchService {
      * @throws PayloadExceededException 드론의 적재량을 초과한 경우
      * @throws BatteryInsufficientException 배터리 용량이 부족한 경우
      */
-    @Transactional
     public void processSelectedOrders(List<Long> orderIds) {
         log.info("=== 선택된 주문 배송 시작 ===");
         log.info("요청된 주문 ID: {}", orderIds);
 
-        // 1. 주문 조회
-        List<Order> orders = new ArrayList<>();
-        for (Long orderId : orderIds) {
-            Order order = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new backend.databaseproject.domain.order.exception.OrderNotFoundException(
-                            String.format("주문 ID %d를 찾을 수 없습니다.", orderId)));
-            orders.add(order);
+        // 배치/연속 배송(processStore)과 같은 매장 잠금 아래에서 트랜잭션 전체(커밋 포함)를 실행하여,
+        // 두 경로가 같은 IDLE 드론이나 CREATED 주문을 동시에 읽고 각자 경로를 만들지 않도록 함
+        List<Long> storeIds = orderRepository.findStoreIdsByOrderIds(orderIds);
+        if (storeIds.isEmpty()) {
+            throw new backend.databaseproject.domain.order.exception.OrderNotFoundException(
+                    String.format("주문 ID %s를 찾을 수 없습니다.", orderIds));
         }
+        // 여러 매장이 섞여 있으면 트랜잭션 안의 매장 검증에서 거절됨
+        Long storeId = storeIds.get(0);
+
+        synchronized (storeLocks.computeIfAbsent(storeId, id -> new Object())) {
+            DefaultTransactionDefinition def = new DefaultTransactionDefinition();
+            def.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            TransactionStatus status = transactionManager.getTransaction(def);
+
+            try {
+                dispatchSelectedOrders(orderIds);
+                transactionManager.commit(status);
+            } catch (RuntimeException e) {
+                if (!status.isCompleted()) {
+                    transactionManager.rollback(status);
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void dispatchSelectedOrders(List<Long> orderIds) {
+
+        // 1. 주문 일괄 조회 (Store, User 함께 조회)
+        List<Order> orders = loadOrders(orderIds);
 
         // 2. 모든 주문이 CREATED 상태인지 확인
         for (Order order : orders) {
@@ -105,158 +178,270 @@ public class DeliveryBatchService {
         log.info("드론 할당 - DroneId: {}, Model: {}, MaxPayload: {}kg",
                 availableDrone.getDroneId(), availableDrone.getModel(), availableDrone.getMaxPayloadKg());
 
-        // 5. 무게 및 거리 검증
-        validatePayloadAndDistance(orders, availableDrone, store);
+        // 5. 배치 거리 행렬 계산 (이후 모든 단계에서 공유)
+        DistanceMatrix matrix = DistanceMatrix.of(store, orders);
+
+        // 6. 무게 및 거리 검증
+        validatePayloadAndDistance(orders, availableDrone, matrix);
 
-        // 6. 주문 시간순 정렬
+        // 7. 주문 시간순 정렬
         orders.sort((o1, o2) -> o1.getCreatedAt().compareTo(o2.getCreatedAt()));
 
-        // 7. 경로 최적화
-        List<Order> optimizedOrders = routeOptimizerService.optimizeRoute(orders, store);
+        // 8. 경로 최적화
+        OptimizedRoute optimizedRoute = routeOptimizerService.optimizeRoute(orders, store, matrix);
+        List<Order> optimizedOrders = optimizedRoute.getOrders();
 
-        // 8. Route 생성
-        Route route = createRoute(availableDrone, store, optimizedOrders);
+        // 9. Route 생성
+        Route route = createRoute(availableDrone, store, optimizedRoute, matrix);
         routeRepository.save(route);
         log.info("Route 생성 완료 - RouteId: {}", route.getRouteId());
 
-        // 9. RouteStop 생성
+        // 10. RouteStop 생성
         createRouteStops(route, store, optimizedOrders);
 
-        // 10. Order 상태 변경
+        // 11. Order 상태 변경
+        LocalDateTime assignedAt = simulationClock.now();
         for (Order order : optimizedOrders) {
-            order.assignDelivery();
+            order.assignDelivery(assignedAt);
         }
         orderRepository.saveAll(optimizedOrders);
 
-        // 11. 드론 상태 변경
+        // 12. 드론 상태 변경
         availableDrone.changeStatus(DroneStatus.IN_FLIGHT);
         droneRepository.save(availableDrone);
 
-        // 12. 비행 시뮬레이션 시작 (비동기)
-        droneSimulatorService.simulateFlight(route.getRouteId());
+        // 13. 트랜잭션 커밋 후 비행 시뮬레이션 시작
+        startFlightAfterCommit(route.getRouteId());
 
         log.info("=== 선택된 주문 배송 시작 완료 - RouteId: {} ===", route.getRouteId());
     }
 
+    /**
+     * 주문 ID 목록으로 주문 일괄 조회
+     * 한 번의 fetch join 쿼리로 조회한 뒤, 요청 순서대로 정렬하고 누락된 ID를 확인합니다.
+     *
+     * @param orderIds 조회할 주문 ID 리스트 (중복은 한 번만 조회)
+     * @return 요청 순서대로 정렬된 주문 리스트
+     * @throws backend.databaseproject.domain.order.exception.OrderNotFoundException 존재하지 않는 ID가 있는 경우
+     */
+    private List<Order> loadOrders(List<Long> orderIds) {
+        List<Long> distinctIds = orderIds.stream().distinct().toList();
+
+        Map<Long, Order> orderById = orderRepository.findAllByIdWithStoreAndUser(distinctIds).stream()
+                .collect(Collectors.toMap(Order::getOrderId, order -> order));
+
+        List<Long> missingIds = distinctIds.stream()
+                .filter(orderId -> !orderById.containsKey(orderId))
+                .toList();
+        if (!missingIds.isEmpty()) {
+            throw new backend.databaseproject.domain.order.exception.OrderNotFoundException(
+                    String.format("주문 ID %s를 찾을 수 없습니다.",
+                            missingIds.size() == 1 ? missingIds.get(0) : missingIds));
+        }
+
+        List<Order> orders = new ArrayList<>(distinctIds.size());
+        for (Long orderId : distinctIds) {
+            orders.add(orderById.get(orderId));
+        }
+        return orders;
+    }
+
     /**
      * 배치 처리 실행
-     * 대기 중인 배송 요청들을 매장별로 그룹화하여 처리합니다.
+     * 대기 중인 배송 요청이 있는 매장들을 배치 Executor에서 병렬로 처리합니다.
+     * 매장마다 독립된 트랜잭션을 사용하므로 한 매장의 실패나 지연이 다른 매장에 영향을 주지 않습니다.
+     *
+     * @return 매장별 처리 결과와 전체 집계
      */
-    @Transactional
-    public void processBatch() {
+    public BatchDispatchResponse processBatch() {
         log.info("=== 배송 배치 처리 시작 ===");
+        long startedAt = System.currentTimeMillis();
 
-        try {
-            // 1. CREATED 상태의 Order들을 조회 (주문 시간순 정렬)
-            List<Order> pendingOrders = orderRepository
-                    .findPendingOrdersWithStoreAndUser(OrderStatus.CREATED);
+        // 1. CREATED 상태의 주문이 있는 매장 조회
+        List<Long> storeIds = orderRepository.findStoreIdsByStatus(OrderStatus.CREATED);
 
-            if (pendingOrders.isEmpty()) {
-                log.info("처리할 배송 요청이 없습니다.");
-                return;
-            }
+        if (storeIds.isEmpty()) {
+            log.info("처리할 배송 요청이 없습니다.");
+            return buildReport(List.of(), startedAt);
+        }
 
-            // 주문 시간순으로 정렬 (먼저 주문한 고객 우선)
-            pendingOrders.sort((o1, o2) -> o1.getCreatedAt().compareTo(o2.getCreatedAt()));
+        log.info("배송 요청이 있는 매장: {}개", storeIds.size());
 
-            log.info("대기 중인 배송 요청: {}건", pendingOrders.size());
+        // 2. 매장별로 병렬 처리 (매장마다 독립 트랜잭션)
+        List<CompletableFuture<BatchDispatchResponse.StoreResult>> futures = new ArrayList<>(storeIds.size());
+        for (Long storeId : storeIds) {
+            futures.add(CompletableFuture.supplyAsync(() -> processStore(storeId), batchDispatchExecutor));
+        }
 
-            // 2. storeId별로 그룹화
-            Map<Long, List<Order>> ordersByStore = pendingOrders.stream()
-                    .collect(Collectors.groupingBy(order -> order.getStore().getStoreId()));
+        List<BatchDispatchResponse.StoreResult> results = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
 
-            log.info("매장별 그룹: {}개 매장", ordersByStore.size());
+        // 3. 결과 집계
+        BatchDispatchResponse report = buildReport(results, startedAt);
+        log.info("=== 배송 배치 처리 완료 - 매장 {}곳 (실패 {}곳), 경로 {}개, 총 {}건 처리, 미배정 {}건, {}ms ===",
+                report.getStoreCount(), report.getFailedStoreCount(), report.getRouteCount(),
+                report.getAssignedOrderCount(), report.getUnassignedOrderCount(), report.getElapsedMs());
 
-            // 3. 각 그룹별로 처리
-            int processedCount = 0;
-            for (Map.Entry<Long, List<Order>> entry : ordersByStore.entrySet()) {
-                Long storeId = entry.getKey();
-                List<Order> orders = entry.getValue();
+        return report;
+    }
 
-                log.info("매장 ID {} 처리 시작 - 배송 요청: {}건", storeId, orders.size());
+    /**
+     * 매장 1곳 처리 (실패 격리)
+     * 배치 처리와 연속 배송 디스패처가 함께 사용하며, 같은 매장은 수동 배송(processSelectedOrders)을 포함해 동시에 처리하지 않습니다.
+     * 오류가 나면 해당 매장의 트랜잭션만 롤백하고 FAILED 결과를 반환합니다.
+     *
+     * @param storeId 매장 ID
+     * @return 매장 처리 결과
+     */
+    public BatchDispatchResponse.StoreResult processStore(Long storeId) {
+        // 같은 매장의 CREATED 주문을 두 트랜잭션이 동시에 배정하지 않도록 매장 단위로 직렬화
+        synchronized (storeLocks.computeIfAbsent(storeId, id -> new Object())) {
+            return dispatchStoreInNewTransaction(storeId);
+        }
+    }
 
-                // 매장 조회
-                Store store = storeRepository.findById(storeId)
-                        .orElseThrow(() -> new IllegalArgumentException("Store not found: " + storeId));
+    private BatchDispatchResponse.StoreResult dispatchStoreInNewTransaction(Long storeId) {
+        long startedAt = System.currentTimeMillis();
 
-                // 해당 매장의 대기 중인 드론 조회
-                Drone availableDrone = droneRepository.findFirstByStoreAndStatus(store, DroneStatus.IDLE)
-                        .orElse(null);
+        DefaultTransactionDefinition def = new DefaultTransactionDefinition();
+        def.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        TransactionStatus status = transactionManager.getTransaction(def);
 
-                if (availableDrone == null) {
-                    log.warn("매장 ID {}에 사용 가능한 드론이 없습니다. 스킵", storeId);
-                    continue;
-                }
+        try {
+            BatchDispatchResponse.StoreResult result = dispatchStore(storeId, startedAt);
+            transactionManager.commit(status);
+            return result;
+        } catch (Exception e) {
+            if (!status.isCompleted()) {
+                transactionManager.rollback(status);
+            }
+            log.error("매장 ID {} 배송 배치 처리 실패 - 해당 매장만 롤백", storeId, e);
+            return BatchDispatchResponse.StoreResult.builder()
+                    .storeId(storeId)
+                    .status(STORE_FAILED)
+                    .routeIds(List.of())
+                    .elapsedMs(System.currentTimeMillis() - startedAt)
+                    .message(e.getMessage())
+                    .build();
+        }
+    }
 
-                log.info("드론 할당 - DroneId: {}, Model: {}, MaxPayload: {}kg, Store: {}",
-                        availableDrone.getDroneId(), availableDrone.getModel(),
-                        availableDrone.getMaxPayloadKg(), store.getName());
+    /**
+     * 매장 1곳의 대기 주문을 대기 중인 드론들에 배정하고 경로 생성
+     * 호출하는 쪽의 트랜잭션 안에서 실행되며, 비행 시뮬레이션은 커밋 후 시작됩니다.
+     */
+    private BatchDispatchResponse.StoreResult dispatchStore(Long storeId, long startedAt) {
+        // 매장의 CREATED 주문 조회 (주문 시간순, 먼저 주문한 고객 우선)
+        List<Order> orders = orderRepository
+                .findPendingOrdersByStoreWithStoreAndUser(storeId, OrderStatus.CREATED);
 
-                // 드론의 적재량과 배터리를 고려하여 할당 가능한 주문 선택
-                List<Order> selectedOrders = selectOrdersForDrone(orders, availableDrone, store);
+        log.info("매장 ID {} 처리 시작 - 배송 요청: {}건", storeId, orders.size());
 
-                if (selectedOrders.isEmpty()) {
-                    log.warn("드론에 할당 가능한 주문이 없습니다. 매장 ID {} 스킵", storeId);
-                    continue;
-                }
+        if (orders.isEmpty()) {
+            return skippedResult(storeId, 0, startedAt, "처리할 배송 요청이 없습니다.");
+        }
 
-                log.info("할당 가능한 주문: {}건 / 전체 {}건", selectedOrders.size(), orders.size());
+        Store store = orders.get(0).getStore();
 
-                // 경로 최적화
-                List<Order> optimizedOrders = routeOptimizerService.optimizeRoute(selectedOrders, store);
+        // 해당 매장의 대기 중인 드론 전체 조회 (적재량이 큰 드론부터)
+        List<Drone> idleDrones = new ArrayList<>(droneRepository.findByStoreAndStatus(store, DroneStatus.IDLE));
 
-                if (optimizedOrders.isEmpty()) {
-                    log.warn("최적화된 경로가 없습니다. 매장 ID {} 스킵", storeId);
-                    continue;
-                }
+        if (idleDrones.isEmpty()) {
+            log.warn("매장 ID {}에 사용 가능한 드론이 없습니다. 스킵", storeId);
+            return skippedResult(storeId, orders.size(), startedAt, "사용 가능한 드론이 없습니다.");
+        }
 
-                // Route 생성
-                Route route = createRoute(availableDrone, store, optimizedOrders);
-                routeRepository.save(route);
-                log.info("Route 생성 완료 - RouteId: {}", route.getRouteId());
+        idleDrones.sort(Comparator.comparing(Drone::getMaxPayloadKg)
+                .thenComparing(Drone::getBatteryCapacity)
+                .reversed());
 
-                // RouteStop 생성
-                createRouteStops(route, store, optimizedOrders);
+        log.info("대기 중인 드론: {}대, Store: {}", idleDrones.size(), store.getName());
 
-                // Order 상태 변경
-                for (Order order : optimizedOrders) {
-                    order.assignDelivery();
-                }
-                orderRepository.saveAll(optimizedOrders);
-
-                // 드론 상태 변경
-                availableDrone.changeStatus(DroneStatus.IN_FLIGHT);
-                droneRepository.save(availableDrone);
-
-                // 트랜잭션 커밋 후 비행 시뮬레이션 시작 (비동기)
-                Long routeIdForSimulation = route.getRouteId();
-                org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization(
-                        new org.springframework.transaction.support.TransactionSynchronization() {
-                            @Override
-                            public void afterCommit() {
-                                droneSimulatorService.simulateFlight(routeIdForSimulation);
-                            }
-                        }
-                );
-
-                processedCount += optimizedOrders.size();
-                log.info("매장 ID {} 처리 완료 - {}건 배송 할당", storeId, optimizedOrders.size());
+        // 매장 단위 거리 행렬 계산 (주문 배정, 경로 최적화, Route 생성에서 공유)
+        DistanceMatrix matrix = DistanceMatrix.of(store, orders);
+
+        // 드론별 적재량과 배터리를 고려하여 주문을 여러 드론에 분배
+        List<List<Order>> assignments = planFleetRoutes(orders, idleDrones, matrix);
+
+        List<Long> routeIds = new ArrayList<>();
+        int assignedCount = 0;
+        for (int v = 0; v < idleDrones.size(); v++) {
+            List<Order> assignedOrders = assignments.get(v);
+            if (assignedOrders.isEmpty()) {
+                continue;
             }
 
-            log.info("=== 배송 배치 처리 완료 - 총 {}건 처리 ===", processedCount);
+            Drone drone = idleDrones.get(v);
+            log.info("드론 할당 - DroneId: {}, Model: {}, MaxPayload: {}kg, 배정 주문: {}건",
+                    drone.getDroneId(), drone.getModel(), drone.getMaxPayloadKg(), assignedOrders.size());
 
-        } catch (Exception e) {
-            log.error("배송 배치 처리 중 오류 발생", e);
-            throw e;
+            // 경로 최적화 (배정 단계의 경로보다 길어지면 배정 순서 유지)
+            OptimizedRoute optimizedRoute = routeOptimizerService.optimizeRoute(assignedOrders, store, matrix);
+            double plannedDistance = matrix.tourDistance(assignedOrders);
+            if (optimizedRoute.getDistanceKm() > plannedDistance) {
+                optimizedRoute = new OptimizedRoute(assignedOrders, FLEET_HEURISTIC,
+                        plannedDistance, plannedDistance);
+            }
+
+            Route route = dispatchRoute(drone, store, optimizedRoute, matrix);
+            routeIds.add(route.getRouteId());
+            assignedCount += assignedOrders.size();
         }
+
+        if (assignedCount == 0) {
+            log.warn("드론에 할당 가능한 주문이 없습니다. 매장 ID {} 스킵", storeId);
+            return skippedResult(storeId, orders.size(), startedAt, "드론에 할당 가능한 주문이 없습니다.");
+        }
+
+        log.info("매장 ID {} 처리 완료 - {}건 배송 할당 (미배정 {}건)",
+                storeId, assignedCount, orders.size() - assignedCount);
+
+        return BatchDispatchResponse.StoreResult.builder()
+                .storeId(storeId)
+                .status(STORE_DISPATCHED)
+                .routeIds(routeIds)
+                .assignedOrderCount(assignedCount)
+                .unassignedOrderCount(orders.size() - assignedCount)
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .build();
+    }
+
+    private BatchDispatchResponse.StoreResult skippedResult(Long storeId, int pendingCount, long startedAt,
+                                                            String message) {
+        return BatchDispatchResponse.StoreResult.builder()
+                .storeId(storeId)
+                .status(STORE_SKIPPED)
+                .routeIds(List.of())
+                .unassignedOrderCount(pendingCount)
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * 매장별 결과를 전체 배치 결과로 집계
+     */
+    private BatchDispatchResponse buildReport(List<BatchDispatchResponse.StoreResult> results, long startedAt) {
+        return BatchDispatchResponse.builder()
+                .storeCount(results.size())
+                .failedStoreCount((int) results.stream().filter(r -> STORE_FAILED.equals(r.getStatus())).count())
+                .routeCount(results.stream().mapToInt(r -> r.getRouteIds().size()).sum())
+                .assignedOrderCount(results.stream().mapToInt(BatchDispatchResponse.StoreResult::getAssignedOrderCount).sum())
+                .unassignedOrderCount(results.stream().mapToInt(BatchDispatchResponse.StoreResult::getUnassignedOrderCount).sum())
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .stores(results)
+                .build();
     }
 
     /**
      * Route 엔티티 생성
      */
-    private Route createRoute(Drone drone, Store store, List<Order> orders) {
+    private Route createRoute(Drone drone, Store store, OptimizedRoute optimizedRoute, DistanceMatrix matrix) {
+        List<Order> orders = optimizedRoute.getOrders();
+
         // 총 거리 계산
-        BigDecimal totalDistance = calculateTotalDistance(store, orders);
+        BigDecimal totalDistance = calculateTotalDistance(matrix, orders);
 
         // 총 무게 계산
         BigDecimal totalWeight = orders.stream()
@@ -270,7 +455,7 @@ public class DeliveryBatchService {
         int stopDelayMin = (orders.size() + 2) * STOP_DELAY_MIN; // PICKUP + DROP들 + RETURN
         int estimatedDuration = travelTimeMin + stopDelayMin;
 
-        java.time.LocalDateTime now = java.time.LocalDateTime.now();
+        LocalDateTime now = simulationClock.now();
 
         return Route.builder()
                 .drone(drone)
@@ -279,21 +464,23 @@ public class DeliveryBatchService {
                 .plannedTotalPayloadKg(totalWeight)
                 .plannedStartAt(now)
                 .plannedEndAt(now.plusMinutes(estimatedDuration))
-                .heuristic("Nearest Neighbor")
-                .note("Batch processed at " + now)
+                .heuristic(optimizedRoute.getHeuristic())
+                .note(String.format("Batch processed at %s (initial %.2fkm -> optimized %.2fkm)",
+                        now, optimizedRoute.getInitialDistanceKm(), optimizedRoute.getDistanceKm()))
                 .build();
     }
 
     /**
      * RouteStop들 생성
+     * 정류장과 정류장-주문 매핑을 JDBC 배치로 한 번에 저장합니다.
      */
     private void createRouteStops(Route route, Store store, List<Order> orders) {
+        List<RouteStop> stops = new ArrayList<>(orders.size() + 2);
         int sequence = 1;
 
         // 1. PICKUP (매장)
-        RouteStop pickupStop = createRouteStop(route, sequence++, StopType.PICKUP,
-                store.getName(), store, null, store.getLat(), store.getLng(), null);
-        routeStopRepository.save(pickupStop);
+        stops.add(createRouteStop(route, sequence++, StopType.PICKUP,
+                store.getName(), store, null, store.getLat(), store.getLng(), null));
 
         // 2. DROP들 (각 배송지)
         for (Order order : orders) {
@@ -301,20 +488,20 @@ public class DeliveryBatchService {
                     order.getUser().getName(), null, order.getUser(),
                     order.getDestLat(), order.getDestLng(),
                     order.getTotalWeightKg().negate()); // 배송으로 무게 감소
-            routeStopRepository.save(dropStop);
 
             // RouteStopOrder 생성 (Stop과 Order 매핑)
-            RouteStopOrder routeStopOrder = RouteStopOrder.builder()
-                    .routeStop(dropStop)
+            dropStop.addRouteStopOrder(RouteStopOrder.builder()
                     .order(order)
-                    .build();
-            routeStopOrderRepository.save(routeStopOrder);
+                    .build());
+            stops.add(dropStop);
         }
 
         // 3. RETURN (매장으로 귀환)
-        RouteStop returnStop = createRouteStop(route, sequence, StopType.RETURN,
-                store.getName(), store, null, store.getLat(), store.getLng(), null);
-        routeStopRepository.save(returnStop);
+        stops.add(createRouteStop(route, sequence, StopType.RETURN,
+                store.getName(), store, null, store.getLat(), store.getLng(), null));
+
+        routeStopBatchRepository.saveAllWithOrders(route.getRouteId(), stops, simulationClock.now());
+        log.debug("RouteStop 저장 완료 - RouteId: {}, 정류장: {}개", route.getRouteId(), stops.size());
     }
 
     /**
@@ -339,120 +526,103 @@ public class DeliveryBatchService {
     /**
      * 총 거리 계산 (매장 -> 배송지들 -> 매장)
      */
-    private BigDecimal calculateTotalDistance(Store store, List<Order> orders) {
-        double totalDistance = 0.0;
-        BigDecimal currentLat = store.getLat();
-        BigDecimal currentLng = store.getLng();
-
-        // 매장에서 각 배송지까지
-        for (Order order : orders) {
-            double distance = GeoUtils.calculateDistance(
-                    currentLat.doubleValue(), currentLng.doubleValue(),
-                    order.getDestLat().doubleValue(), order.getDestLng().doubleValue()
-            );
-            totalDistance += distance;
-            currentLat = order.getDestLat();
-            currentLng = order.getDestLng();
-        }
-
-        // 마지막 배송지에서 매장으로 귀환
-        double returnDistance = GeoUtils.calculateDistance(
-                currentLat.doubleValue(), currentLng.doubleValue(),
-                store.getLat().doubleValue(), store.getLng().doubleValue()
-        );
-        totalDistance += returnDistance;
-
+    private BigDecimal calculateTotalDistance(DistanceMatrix matrix, List<Order> orders) {
+        double totalDistance = matrix.tourDistance(orders);
         return BigDecimal.valueOf(totalDistance).setScale(2, RoundingMode.HALF_UP);
     }
 
     /**
-     * 두 지점 간 거리 계산
-     */
-    private BigDecimal calculateDistance(BigDecimal lat1, BigDecimal lng1,
-                                          BigDecimal lat2, BigDecimal lng2) {
-        double distance = GeoUtils.calculateDistance(
-                lat1.doubleValue(), lng1.doubleValue(),
-                lat2.doubleValue(), lng2.doubleValue()
-        );
-        return BigDecimal.valueOf(distance).setScale(2, RoundingMode.HALF_UP);
-    }
-
-    /**
-     * 드론의 적재량과 배터리를 고려하여 할당 가능한 주문 선택
-     * 주문 시간순으로 처리하되, 드론의 물리적 제약을 초과하지 않는 주문들만 선택합니다.
+     * 드론별 적재량과 배터리를 고려하여 주문을 여러 드론에 분배
+     * 드론마다 비행 1회에 실을 수 있는 주문 수가 최대가 되도록 고르되 오래 기다린 주문을 우선하며,
+     * 어느 드론에도 실을 수 없는 주문은 다음 배치로 넘깁니다.
      *
      * @param orders 같은 매장의 대기 중인 주문들 (이미 시간순 정렬됨)
-     * @param drone 할당할 드론
-     * @param store 출발 매장
-     * @return 할당 가능한 주문 리스트
+     * @param drones 매장의 대기 중인 드론들
+     * @param matrix 매장 단위 거리 행렬
+     * @return 드론 순서대로 배정된 주문 리스트 (배정 단계의 방문 순서)
      */
-    private List<Order> selectOrdersForDrone(List<Order> orders, Drone drone, Store store) {
-        List<Order> selectedOrders = new ArrayList<>();
-        BigDecimal totalWeight = BigDecimal.ZERO;
-        double totalDistance = 0.0;
-
-        BigDecimal currentLat = store.getLat();
-        BigDecimal currentLng = store.getLng();
+    private List<List<Order>> planFleetRoutes(List<Order> orders, List<Drone> drones, DistanceMatrix matrix) {
+        int[] nodes = new int[orders.size()];
+        double[] weightKg = new double[orders.size()];
+        double[] ageMinutes = new double[orders.size()];
+        // 대기 시간은 주문 생성 시각과 같은 시뮬레이션 시계 기준 (배속/discrete 모드에서도 기아 방지 기준이 맞도록)
+        LocalDateTime now = simulationClock.now();
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            nodes[i] = matrix.nodeOf(order);
+            weightKg[i] = order.getTotalWeightKg().doubleValue();
+            ageMinutes[i] = Duration.between(order.getCreatedAt(), now).toSeconds() / 60.0;
+        }
 
-        // 드론의 배터리 용량으로 최대 거리 계산
-        double maxDistance = calculateMaxDistance(drone);
+        double[] maxPayloadKg = new double[drones.size()];
+        double[] maxDistanceKm = new double[drones.size()];
+        for (int v = 0; v < drones.size(); v++) {
+            maxPayloadKg[v] = drones.get(v).getMaxPayloadKg().doubleValue();
+            maxDistanceKm[v] = calculateMaxDistance(drones.get(v));
+        }
 
-        log.info("주문 선택 시작 - 드론 최대 적재량: {}kg, 최대 거리: {}km (배터리: {}mAh)",
-                drone.getMaxPayloadKg(), String.format("%.2f", maxDistance), drone.getBatteryCapacity());
+        int[][] tours = fleetRoutePlanner.plan(nodes, weightKg, ageMinutes, maxPayloadKg, maxDistanceKm, matrix);
 
-        for (Order order : orders) {
-            // 1. 적재량 체크
-            BigDecimal newTotalWeight = totalWeight.add(order.getTotalWeightKg());
-            if (newTotalWeight.compareTo(drone.getMaxPayloadKg()) > 0) {
-                log.info("적재량 초과로 주문 스킵 - OrderId: {}, 현재 무게: {}kg, 주문 무게: {}kg, 최대: {}kg",
-                        order.getOrderId(), totalWeight, order.getTotalWeightKg(), drone.getMaxPayloadKg());
-                continue; // 적재량 초과, 다음 주문 확인
+        List<List<Order>> assignments = new ArrayList<>(drones.size());
+        for (int[] tour : tours) {
+            List<Order> assigned = new ArrayList<>(tour.length - 2);
+            for (int p = 1; p < tour.length - 1; p++) {
+                assigned.add(matrix.orderAt(tour[p]));
             }
+            assignments.add(assigned);
+        }
 
-            // 2. 거리 체크 (현재 위치 -> 배송지 -> 매장 귀환 거리 계산)
-            double distanceToOrder = GeoUtils.calculateDistance(
-                    currentLat.doubleValue(), currentLng.doubleValue(),
-                    order.getDestLat().doubleValue(), order.getDestLng().doubleValue()
-            );
-
-            double distanceBackToStore = GeoUtils.calculateDistance(
-                    order.getDestLat().doubleValue(), order.getDestLng().doubleValue(),
-                    store.getLat().doubleValue(), store.getLng().doubleValue()
-            );
-
-            double newTotalDistance = totalDistance + distanceToOrder + distanceBackToStore;
-
-            // 현재까지의 거리에서 귀환 거리를 빼고 새로운 경로를 추가
-            if (!selectedOrders.isEmpty()) {
-                // 이전 귀환 거리 제거
-                double prevReturnDistance = GeoUtils.calculateDistance(
-                        currentLat.doubleValue(), currentLng.doubleValue(),
-                        store.getLat().doubleValue(), store.getLng().doubleValue()
-                );
-                newTotalDistance = totalDistance - prevReturnDistance + distanceToOrder + distanceBackToStore;
-            }
+        log.info("주문 배정 완료 - 드론 {}대, 배정: {}건 / 전체 {}건",
+                drones.size(), assignments.stream().mapToInt(List::size).sum(), orders.size());
 
-            if (newTotalDistance > maxDistance) {
-                log.info("거리 초과로 주문 스킵 - OrderId: {}, 예상 총 거리: {}km, 최대: {}km",
-                        order.getOrderId(), String.format("%.2f", newTotalDistance), String.format("%.2f", maxDistance));
-                continue; // 거리 초과, 다음 주문 확인
-            }
+        return assignments;
+    }
 
-            // 3. 제약 조건 통과 - 주문 추가
-            selectedOrders.add(order);
-            totalWeight = newTotalWeight;
-            totalDistance = newTotalDistance;
-            currentLat = order.getDestLat();
-            currentLng = order.getDestLng();
+    /**
+     * 최적화된 경로로 Route/RouteStop을 저장하고 주문/드론 상태를 변경한 뒤,
+     * 트랜잭션 커밋 후 비행 시뮬레이션을 시작하도록 등록합니다.
+     */
+    private Route dispatchRoute(Drone drone, Store store, OptimizedRoute optimizedRoute, DistanceMatrix matrix) {
+        List<Order> optimizedOrders = optimizedRoute.getOrders();
+
+        // Route 생성
+        Route route = createRoute(drone, store, optimizedRoute, matrix);
+        routeRepository.save(route);
+        log.info("Route 생성 완료 - RouteId: {}, DroneId: {}", route.getRouteId(), drone.getDroneId());
 
-            log.info("주문 선택 - OrderId: {}, 누적 무게: {}kg, 예상 거리: {}km",
-                    order.getOrderId(), totalWeight, String.format("%.2f", totalDistance));
+        // RouteStop 생성
+        createRouteStops(route, store, optimizedOrders);
+
+        // Order 상태 변경
+        LocalDateTime assignedAt = simulationClock.now();
+        for (Order order : optimizedOrders) {
+            order.assignDelivery(assignedAt);
         }
+        orderRepository.saveAll(optimizedOrders);
+
+        // 드론 상태 변경
+        drone.changeStatus(DroneStatus.IN_FLIGHT);
+        droneRepository.save(drone);
 
-        log.info("주문 선택 완료 - 선택: {}건, 총 무게: {}kg, 예상 거리: {}km",
-                selectedOrders.size(), totalWeight, String.format("%.2f", totalDistance));
+        // 트랜잭션 커밋 후 비행 시뮬레이션 시작
+        startFlightAfterCommit(route.getRouteId());
 
-        return selectedOrders;
+        return route;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 비행 시뮬레이션을 시작하도록 등록
+     * 시뮬레이터는 별도 트랜잭션에서 Route를 다시 조회하므로, 커밋 전에 시작하면 경로를 찾지 못합니다.
+     */
+    private void startFlightAfterCommit(Long routeId) {
+        org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization(
+                new org.springframework.transaction.support.TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        droneSimulatorService.simulateFlight(routeId);
+                    }
+                }
+        );
     }
 
     /**
@@ -461,11 +631,11 @@ public class DeliveryBatchService {
      *
      * @param orders 검증할 주문 리스트
      * @param drone 할당된 드론
-     * @param store 출발 매장
+     * @param matrix 배치 거리 행렬
      * @throws PayloadExceededException 적재량 초과 시
      * @throws BatteryInsufficientException 배터리 용량 부족 시
      */
-    private void validatePayloadAndDistance(List<Order> orders, Drone drone, Store store) {
+    private void validatePayloadAndDistance(List<Order> orders, Drone drone, DistanceMatrix matrix) {
         // 1. 총 무게 계산
         BigDecimal totalWeight = orders.stream()
                 .map(Order::getTotalWeightKg)
@@ -483,27 +653,7 @@ public class DeliveryBatchService {
         double maxDistance = calculateMaxDistance(drone);
 
         // 3. 예상 거리 계산 (매장 -> 각 배송지 -> 매장)
-        double totalDistance = 0.0;
-        BigDecimal currentLat = store.getLat();
-        BigDecimal currentLng = store.getLng();
-
-        // 매장에서 각 배송지까지
-        for (Order order : orders) {
-            double distance = GeoUtils.calculateDistance(
-                    currentLat.doubleValue(), currentLng.doubleValue(),
-                    order.getDestLat().doubleValue(), order.getDestLng().doubleValue()
-            );
-            totalDistance += distance;
-            currentLat = order.getDestLat();
-            currentLng = order.getDestLng();
-        }
-
-        // 마지막 배송지에서 매장으로 귀환
-        double returnDistance = GeoUtils.calculateDistance(
-                currentLat.doubleValue(), currentLng.doubleValue(),
-                store.getLat().doubleValue(), store.getLng().doubleValue()
-        );
-        totalDistance += returnDistance;
+        double totalDistance = matrix.tourDistance(orders);
 
         log.info("예상 총 거리: {}km / 최대 거리: {}km (배터리: {}mAh)",
                 String.format("%.2f", totalDistance), String.format("%.2f", maxDistance), drone.getBatteryCapacity());
@@ -1,297 +1,162 @@
 package backend.databaseproject.domain.route.service;
 
-import backend.databaseproject.domain.order.entity.Order;
-import backend.databaseproject.domain.order.repository.OrderRepository;
-import backend.databaseproject.domain.route.entity.*;
-import backend.databaseproject.domain.route.repository.FlightLogRepository;
-import backend.databaseproject.domain.route.repository.RoutePositionRepository;
-import backend.databaseproject.domain.route.repository.RouteRepository;
-import backend.databaseproject.domain.route.repository.RouteStopRepository;
+import backend.databaseproject.domain.route.simulation.FlightPlan;
+import backend.databaseproject.domain.route.simulation.FlightTickEngine;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
 import backend.databaseproject.global.util.GeoUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 드론 비행 시뮬레이터 서비스
  * 드론의 실시간 위치를 시뮬레이션하고 WebSocket으로 브로드캐스트합니다.
+ *
+ * 실행 방식 (delivery.simulation.engine)
+ * - tick: FlightTickEngine이 모든 비행을 틱 단위로 함께 진행 (기본값)
+ * - thread: 비행마다 플랫폼 스레드 하나가 정류장을 순차 진행하며 UPDATE_INTERVAL_MS씩 대기
+ * - virtual: thread와 같은 순차 진행을 비행마다 가상 스레드(Java 21)에서 실행
+ *            대기(sleep)와 JDBC 호출 중에는 플랫폼 스레드를 반납하므로 비행 수만큼 스레드를 만들어도 부담이 작음
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DroneSimulatorService {
 
-    private final RouteRepository routeRepository;
-    private final RouteStopRepository routeStopRepository;
-    private final RoutePositionRepository routePositionRepository;
-    private final FlightLogRepository flightLogRepository;
-    private final OrderRepository orderRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final FlightTelemetryService flightTelemetryService;
+    private final FlightTickEngine flightTickEngine;
     private final RouteStopProcessingService routeStopProcessingService;
-    private final org.springframework.transaction.PlatformTransactionManager transactionManager;
-    private final backend.databaseproject.domain.drone.repository.DroneRepository droneRepository;
+    private final SimulationClock simulationClock;
 
     private static final int UPDATE_INTERVAL_MS = 2000; // 2초마다 업데이트
-    private static final double DRONE_SPEED_KMH = 30.0; // 드론 평균 속도 30km/h
-    private static final double DRONE_SPEED_MS = DRONE_SPEED_KMH / 3.6; // m/s로 변환
-    private static final int INITIAL_BATTERY = 100; // 초기 배터리 100%
-    private static final BigDecimal ALTITUDE_M = new BigDecimal("50.00"); // 고도 50m
 
-    // 배터리-거리 변환 상수 (DeliveryBatchService와 동일)
-    private static final double BATTERY_TO_DISTANCE_RATIO = 0.004; // mAh당 km (5000mAh = 20km 기준)
+    @Value("${delivery.simulation.engine:tick}")
+    private String engine;
+
+    private ExecutorService flightThreads;
+
+    @PostConstruct
+    void init() {
+        if (isVirtualEngine()) {
+            flightThreads = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("flight-sim-vt-", 1).factory());
+        } else if (isThreadEngine()) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            flightThreads = Executors.newCachedThreadPool(
+                    runnable -> new Thread(runnable, "flight-sim-" + threadNumber.incrementAndGet()));
+        }
+        log.info("비행 시뮬레이션 실행 방식: {}", engine);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (flightThreads != null) {
+            flightThreads.shutdownNow();
+        }
+    }
 
     /**
      * 비행 시뮬레이션 시작 (비동기)
+     * 경로가 커밋된 뒤 호출해야 합니다.
      *
      * @param routeId 경로 ID
      */
-    @Async
     public void simulateFlight(Long routeId) {
-        log.info("드론 비행 시뮬레이션 시작 - RouteId: {}", routeId);
-
-        try {
-            // 트랜잭션 커밋 완료를 위한 짧은 대기
-            Thread.sleep(100);
-
-            // 1. Route 조회 및 상태 변경 (별도 트랜잭션)
-            org.springframework.transaction.support.DefaultTransactionDefinition txDef =
-                new org.springframework.transaction.support.DefaultTransactionDefinition();
-            txDef.setPropagationBehavior(org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-            org.springframework.transaction.TransactionStatus txStatus = transactionManager.getTransaction(txDef);
-
-            Route route;
-            List<RouteStop> stops;
-            backend.databaseproject.domain.drone.entity.Drone drone;
-
-            try {
-                // 1차 조회: Route, RouteStops, Drone, Store
-                route = routeRepository.findByIdWithDetails(routeId)
-                        .orElseThrow(() -> new IllegalArgumentException("Route not found: " + routeId));
+        if (flightThreads != null) {
+            flightThreads.execute(() -> runSequentialFlight(routeId));
+        } else {
+            flightTickEngine.start(routeId);
+        }
+    }
 
-                stops = route.getRouteStops();
-                if (stops.isEmpty()) {
-                    log.error("RouteStops가 없습니다 - RouteId: {}", routeId);
-                    transactionManager.rollback(txStatus);
-                    return;
-                }
+    private boolean isThreadEngine() {
+        return "thread".equalsIgnoreCase(engine);
+    }
 
-                // 2차 조회: RouteStopOrders를 fetch (MultipleBagFetchException 회피)
-                // RouteStop ID 목록 조회
-                List<Long> stopIds = routeRepository.findStopIdsByRouteId(routeId);
-                // RouteStopOrders를 한 번에 fetch
-                routeStopRepository.findAllWithOrdersByIds(stopIds);
+    private boolean isVirtualEngine() {
+        return "virtual".equalsIgnoreCase(engine);
+    }
 
-                // Route 상태를 LAUNCHED로 변경
-                route.launch();
-                routeRepository.saveAndFlush(route);
-                drone = route.getDrone();
+    /**
+     * 순차 실행 방식의 비행 시뮬레이션
+     * 현재 스레드에서 구간마다 위치를 전송하고 UPDATE_INTERVAL_MS씩 대기합니다.
+     *
+     * @param routeId 경로 ID
+     */
+    private void runSequentialFlight(Long routeId) {
+        log.info("드론 비행 시뮬레이션 시작 - RouteId: {}", routeId);
 
-                transactionManager.commit(txStatus);
-                log.info("Route 상태를 LAUNCHED로 변경 - RouteId: {}", routeId);
-            } catch (Exception e) {
-                transactionManager.rollback(txStatus);
-                throw e;
+        try {
+            // 1. Route 상태를 LAUNCHED로 변경 (별도 트랜잭션)
+            FlightPlan plan = flightTelemetryService.launch(routeId);
+            if (plan == null) {
+                return;
             }
 
-            // Store 정보 추출 (첫 stop에서 가져오기)
-            BigDecimal storeLat = stops.get(0).getStopType() == backend.databaseproject.domain.route.entity.StopType.PICKUP ?
-                    stops.get(0).getLat() : null;
-            BigDecimal storeLng = stops.get(0).getStopType() == backend.databaseproject.domain.route.entity.StopType.PICKUP ?
-                    stops.get(0).getLng() : null;
-
-            LocalDateTime flightStartTime = LocalDateTime.now();
-            int totalBatteryUsed = 0;
+            LocalDateTime flightStartTime = simulationClock.now();
             double totalDistanceTraveled = 0.0;
+            double batteryDrainRatePerKm = flightTelemetryService.batteryDrainRatePerKm(plan);
+            int stopCount = plan.stopCount();
 
-            // 드론의 배터리 용량으로 배터리 소모율 계산
-            double maxDistance = drone.getBatteryCapacity() * BATTERY_TO_DISTANCE_RATIO;
-            double batteryDrainRatePerKm = 100.0 / maxDistance; // %/km
-
-            log.info("드론 배터리 정보 - 용량: {}mAh, 최대 거리: {}km, 소모율: {}%/km",
-                    drone.getBatteryCapacity(),
-                    String.format("%.2f", maxDistance),
-                    String.format("%.2f", batteryDrainRatePerKm));
-
-            // 3. RouteStops를 순회하면서 시뮬레이션
-            for (int i = 0; i < stops.size(); i++) {
-                RouteStop currentStop = stops.get(i);
-
-                BigDecimal startLat;
-                BigDecimal startLng;
-
-                // 시작 위치 결정
-                if (i == 0) {
-                    // 첫 번째 stop은 매장에서 출발
-                    startLat = storeLat != null ? storeLat : currentStop.getLat();
-                    startLng = storeLng != null ? storeLng : currentStop.getLng();
-                } else {
-                    // 이전 stop에서 출발
-                    RouteStop prevStop = stops.get(i - 1);
-                    startLat = prevStop.getLat();
-                    startLng = prevStop.getLng();
-                }
-
-                BigDecimal endLat = currentStop.getLat();
-                BigDecimal endLng = currentStop.getLng();
+            // 2. RouteStops를 순회하면서 시뮬레이션 (첫 stop은 매장에서 출발)
+            for (int i = 0; i < stopCount; i++) {
+                int from = (i == 0) ? 0 : i - 1;
+                double startLat = plan.getLat()[from];
+                double startLng = plan.getLng()[from];
+                double endLat = plan.getLat()[i];
+                double endLng = plan.getLng()[i];
 
                 // 구간 거리 계산 (km)
-                double segmentDistanceKm = GeoUtils.calculateDistance(
-                        startLat.doubleValue(), startLng.doubleValue(),
-                        endLat.doubleValue(), endLng.doubleValue()
-                );
-                totalDistanceTraveled += segmentDistanceKm;
+                double segmentDistanceKm = GeoUtils.calculateDistance(startLat, startLng, endLat, endLng);
 
                 // 예상 이동 시간 계산 (초)
-                double segmentTimeSeconds = (segmentDistanceKm * 1000) / DRONE_SPEED_MS;
+                double segmentTimeSeconds = (segmentDistanceKm * 1000) / FlightTelemetryService.DRONE_SPEED_MS;
                 int steps = Math.max(1, (int) Math.ceil(segmentTimeSeconds / (UPDATE_INTERVAL_MS / 1000.0)));
 
                 log.info("구간 시뮬레이션 시작 - Stop: {}/{}, 거리: {}km, 단계: {}",
-                        i + 1, stops.size(), String.format("%.2f", segmentDistanceKm), steps);
+                        i + 1, stopCount, String.format("%.2f", segmentDistanceKm), steps);
 
                 // 선형 보간으로 이동
                 for (int step = 0; step <= steps; step++) {
-                    double fraction = (steps > 0) ? (double) step / steps : 0.0;
-                    double[] position = GeoUtils.interpolate(
-                            startLat.doubleValue(), startLng.doubleValue(),
-                            endLat.doubleValue(), endLng.doubleValue(),
-                            fraction
-                    );
-
-                    // 배터리 소모 계산 (드론별 소모율 적용)
-                    double batteryPct = Math.max(0, INITIAL_BATTERY - (totalDistanceTraveled * batteryDrainRatePerKm));
-
-                    // RoutePosition 생성 및 저장 (트랜잭션 없이 직접 저장)
-                    Route routeRef = routeRepository.getReferenceById(routeId);
-                    RouteStop stopFrom = (i > 0) ? routeStopRepository.getReferenceById(stops.get(i - 1).getStopId()) : null;
-                    RouteStop stopTo = routeStopRepository.getReferenceById(currentStop.getStopId());
-
-                    RoutePosition routePosition = RoutePosition.builder()
-                            .route(routeRef)
-                            .stopFrom(stopFrom)
-                            .stopTo(stopTo)
-                            .lat(BigDecimal.valueOf(position[0]).setScale(6, RoundingMode.HALF_UP))
-                            .lng(BigDecimal.valueOf(position[1]).setScale(6, RoundingMode.HALF_UP))
-                            .speedMps(BigDecimal.valueOf(DRONE_SPEED_MS).setScale(2, RoundingMode.HALF_UP))
-                            .batteryPct(BigDecimal.valueOf(batteryPct).setScale(2, RoundingMode.HALF_UP))
-                            .ts(LocalDateTime.now())
-                            .build();
-
-                    routePositionRepository.save(routePosition);
-
-                    // WebSocket으로 브로드캐스트
-                    Map<String, Object> positionData = new HashMap<>();
-                    positionData.put("routeId", routeId);
-                    positionData.put("lat", position[0]);
-                    positionData.put("lng", position[1]);
-                    positionData.put("speed", DRONE_SPEED_KMH);
-                    positionData.put("battery", batteryPct);
-                    positionData.put("timestamp", LocalDateTime.now());
-
-                    // Route 구독자에게 전송 (점주용)
-                    messagingTemplate.convertAndSend("/topic/route/" + routeId, positionData);
+                    double fraction = (double) step / steps;
+                    double[] position = GeoUtils.interpolate(startLat, startLng, endLat, endLng, fraction);
 
-                    // 아직 배송되지 않은 모든 주문들에게 위치 정보 전송 (고객용)
-                    // 현재 stop 이후의 모든 DROP stop들의 주문에게 전송 (단, 이미 도착한 stop은 제외)
-                    for (int j = i; j < stops.size(); j++) {
-                        RouteStop futureStop = stops.get(j);
+                    // 배터리 소모 계산 (실제 이동한 거리 기준, 드론별 소모율 적용)
+                    double traveledKm = totalDistanceTraveled + segmentDistanceKm * fraction;
+                    double batteryPct = Math.max(0,
+                            FlightTelemetryService.INITIAL_BATTERY - (traveledKm * batteryDrainRatePerKm));
 
-                        // DROP 타입이고, 아직 도착하지 않은 stop만 처리
-                        if (futureStop.getStopType() == StopType.DROP &&
-                            futureStop.getStatus() != StopStatus.ARRIVED &&
-                            futureStop.getStatus() != StopStatus.DEPARTED) {
-
-                            List<RouteStopOrder> routeStopOrders = futureStop.getRouteStopOrders();
-                            for (RouteStopOrder routeStopOrder : routeStopOrders) {
-                                Long orderId = routeStopOrder.getOrder().getOrderId();
-                                Map<String, Object> customerPositionData = new HashMap<>();
-                                customerPositionData.put("orderId", orderId);
-                                customerPositionData.put("lat", position[0]);
-                                customerPositionData.put("lng", position[1]);
-                                customerPositionData.put("speed", DRONE_SPEED_KMH);
-                                customerPositionData.put("battery", batteryPct);
-                                customerPositionData.put("timestamp", LocalDateTime.now());
-                                customerPositionData.put("status", "IN_TRANSIT");
-
-                                messagingTemplate.convertAndSend("/topic/order/" + orderId + "/position", customerPositionData);
-                            }
-                        }
-                    }
+                    flightTelemetryService.publishPosition(plan, i, position[0], position[1], batteryPct);
 
                     // 진행 상황 로그 (10% 간격으로만)
                     if (step % Math.max(1, steps / 10) == 0 || step == steps) {
                         log.info("이동 중 - Stop {}/{}, 진행: {}% ({}/{}), 배터리: {}%",
-                                i + 1, stops.size(),
-                                (int)(fraction * 100), step, steps,
+                                i + 1, stopCount,
+                                (int) (fraction * 100), step, steps,
                                 String.format("%.1f", batteryPct));
                     }
 
-                    // 2초 대기
+                    // 2초 대기 (시뮬레이션 시계 기준)
                     if (step < steps) {
-                        Thread.sleep(UPDATE_INTERVAL_MS);
+                        simulationClock.sleep(UPDATE_INTERVAL_MS);
                     }
                 }
+                totalDistanceTraveled += segmentDistanceKm;
 
                 // Stop 도착 처리 (별도 서비스의 별도 트랜잭션으로 즉시 커밋)
-                routeStopProcessingService.processStopArrival(currentStop.getStopId());
+                routeStopProcessingService.processStopArrival(plan.getStopIds()[i]);
             }
 
-            // 4. 모든 Stop 완료 후 Route 상태를 COMPLETED로 변경 및 FlightLog 생성 (별도 트랜잭션)
-            org.springframework.transaction.support.DefaultTransactionDefinition txDef2 =
-                new org.springframework.transaction.support.DefaultTransactionDefinition();
-            txDef2.setPropagationBehavior(org.springframework.transaction.TransactionDefinition.PROPAGATION_REQUIRES_NEW);
-            org.springframework.transaction.TransactionStatus txStatus2 = transactionManager.getTransaction(txDef2);
-
-            try {
-                Route routeToComplete = routeRepository.findById(routeId)
-                        .orElseThrow(() -> new IllegalArgumentException("Route not found: " + routeId));
-
-                routeToComplete.complete();
-                routeRepository.saveAndFlush(routeToComplete);
-                log.info("Route 완료 - RouteId: {}", routeId);
-
-                // 드론 상태를 IDLE로 변경
-                backend.databaseproject.domain.drone.entity.Drone droneToUpdate =
-                    droneRepository.findById(drone.getDroneId())
-                        .orElseThrow(() -> new IllegalArgumentException("Drone not found: " + drone.getDroneId()));
-                droneToUpdate.changeStatus(backend.databaseproject.domain.drone.entity.DroneStatus.IDLE);
-                droneRepository.saveAndFlush(droneToUpdate);
-                log.info("드론 상태 변경 - DroneId: {}, Status: IDLE", droneToUpdate.getDroneId());
-
-                // FlightLog 생성
-                LocalDateTime flightEndTime = LocalDateTime.now();
-                int batteryUsed = (int) Math.min(INITIAL_BATTERY, totalDistanceTraveled * 5);
-
-                FlightLog flightLog = FlightLog.builder()
-                        .route(routeToComplete)
-                        .drone(drone)
-                        .startTime(flightStartTime)
-                        .endTime(flightEndTime)
-                        .distance(BigDecimal.valueOf(totalDistanceTraveled).setScale(3, RoundingMode.HALF_UP))
-                        .batteryUsed(batteryUsed)
-                        .result(FlightResult.SUCCESS)
-                        .note("Flight completed successfully")
-                        .build();
-
-                flightLogRepository.saveAndFlush(flightLog);
-                log.info("FlightLog 생성 완료 - 총 거리: {}km, 배터리 사용: {}%",
-                        String.format("%.2f", totalDistanceTraveled), batteryUsed);
-
-                transactionManager.commit(txStatus2);
-            } catch (Exception e) {
-                transactionManager.rollback(txStatus2);
-                throw e;
-            }
+            // 3. 모든 Stop 완료 후 Route 완료, 드론 IDLE, FlightLog 생성 (별도 트랜잭션)
+            flightTelemetryService.completeFlight(plan, flightStartTime, totalDistanceTraveled);
 
         } catch (InterruptedException e) {
             log.error("비행 시뮬레이션 중단됨 - RouteId: {}", routeId, e);
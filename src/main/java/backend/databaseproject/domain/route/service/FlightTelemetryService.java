@@ -0,0 +1,323 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.drone.entity.Drone;
+import backend.databaseproject.domain.drone.entity.DroneStatus;
+import backend.databaseproject.domain.drone.event.DroneIdleEvent;
+import backend.databaseproject.domain.drone.repository.DroneRepository;
+import backend.databaseproject.domain.route.entity.*;
+import backend.databaseproject.domain.route.repository.FlightLogRepository;
+import backend.databaseproject.domain.route.repository.RouteRepository;
+import backend.databaseproject.domain.route.repository.RouteStopRepository;
+import backend.databaseproject.domain.route.simulation.FlightPlan;
+import backend.databaseproject.domain.route.simulation.LatestPositionRegistry;
+import backend.databaseproject.domain.route.simulation.PositionFrameEncoder;
+import backend.databaseproject.domain.route.simulation.PositionSample;
+import backend.databaseproject.domain.route.simulation.PositionWriter;
+import backend.databaseproject.domain.route.simulation.SegmentTracker;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
+import backend.databaseproject.global.websocket.SubscriptionRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.util.MimeTypeUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비행 시뮬레이션 공통 처리 서비스
+ * 비행 시작(LAUNCHED), 위치 기록/브로드캐스트, 비행 완료(COMPLETED, 드론 IDLE, FlightLog)를 담당합니다.
+ * 순차 실행 모드(DroneSimulatorService)와 틱 엔진 모드(FlightTickEngine)가 함께 사용합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FlightTelemetryService {
+
+    private final RouteRepository routeRepository;
+    private final RouteStopRepository routeStopRepository;
+    private final PositionWriter positionWriter;
+    private final LatestPositionRegistry latestPositionRegistry;
+    private final FlightLogRepository flightLogRepository;
+    private final DroneRepository droneRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final SubscriptionRegistry subscriptionRegistry;
+    private final SegmentTracker segmentTracker;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimulationClock simulationClock;
+
+    public static final double DRONE_SPEED_KMH = 30.0; // 드론 평균 속도 30km/h
+    public static final double DRONE_SPEED_MS = DRONE_SPEED_KMH / 3.6; // m/s로 변환
+    public static final int INITIAL_BATTERY = 100; // 초기 배터리 100%
+
+    // 배터리-거리 변환 상수 (DeliveryBatchService와 동일)
+    private static final double BATTERY_TO_DISTANCE_RATIO = 0.004; // mAh당 km (5000mAh = 20km 기준)
+
+    // 압축 프레임 전송 헤더 (네이티브 WebSocket에서는 바이너리 프레임으로 전송됨)
+    private static final Map<String, Object> COMPACT_HEADERS =
+            Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_OCTET_STREAM);
+
+    /**
+     * 구간 전송 방식 여부 (delivery.simulation.publish-mode: segment)
+     * 틱마다 위치를 보내는 대신 구간 정보와 보정만 JSON으로 전송합니다. 압축 프레임은 틱마다 전송합니다.
+     */
+    @Value("${delivery.simulation.publish-mode:every-tick}")
+    private String publishMode;
+
+    /**
+     * 구간 전송 방식 설정 검증
+     * 클라이언트는 실제 시간으로 위치를 계산하므로, 실제 시간과 비례하지 않는 discrete 시계와는 함께 쓸 수 없습니다.
+     */
+    @PostConstruct
+    void validatePublishMode() {
+        if (isSegmentMode() && simulationClock.isDiscrete()) {
+            throw new IllegalStateException(
+                    "delivery.simulation.publish-mode: segment는 clock.mode가 discrete일 때 사용할 수 없습니다.");
+        }
+    }
+
+    /**
+     * 비행 시작 (별도 트랜잭션)
+     * Route를 LAUNCHED로 변경하고 비행 계획 스냅샷을 만듭니다.
+     *
+     * @param routeId 경로 ID
+     * @return 비행 계획, 정류장이 없으면 null
+     */
+    public FlightPlan launch(Long routeId) {
+        DefaultTransactionDefinition txDef = new DefaultTransactionDefinition();
+        txDef.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        TransactionStatus txStatus = transactionManager.getTransaction(txDef);
+
+        try {
+            // 1차 조회: Route, RouteStops, Drone, Store
+            Route route = routeRepository.findByIdWithDetails(routeId)
+                    .orElseThrow(() -> new IllegalArgumentException("Route not found: " + routeId));
+
+            if (route.getRouteStops().isEmpty()) {
+                log.error("RouteStops가 없습니다 - RouteId: {}", routeId);
+                transactionManager.rollback(txStatus);
+                return null;
+            }
+
+            // 2차 조회: RouteStopOrders를 fetch (MultipleBagFetchException 회피)
+            List<Long> stopIds = routeRepository.findStopIdsByRouteId(routeId);
+            routeStopRepository.findAllWithOrdersByIds(stopIds);
+
+            FlightPlan plan = FlightPlan.from(route);
+
+            // Route 상태를 LAUNCHED로 변경
+            route.launch(simulationClock.now());
+            routeRepository.saveAndFlush(route);
+
+            transactionManager.commit(txStatus);
+            log.info("Route 상태를 LAUNCHED로 변경 - RouteId: {}", routeId);
+
+            log.info("드론 배터리 정보 - 용량: {}mAh, 최대 거리: {}km, 소모율: {}%/km",
+                    plan.getBatteryCapacity(),
+                    String.format("%.2f", maxDistanceKm(plan)),
+                    String.format("%.2f", batteryDrainRatePerKm(plan)));
+            return plan;
+        } catch (RuntimeException e) {
+            if (!txStatus.isCompleted()) {
+                transactionManager.rollback(txStatus);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 드론의 배터리 용량 기준 최대 비행 거리 (km, 안전 마진 미적용)
+     */
+    public double maxDistanceKm(FlightPlan plan) {
+        return plan.getBatteryCapacity() * BATTERY_TO_DISTANCE_RATIO;
+    }
+
+    /**
+     * 1km당 배터리 소모율 (%)
+     */
+    public double batteryDrainRatePerKm(FlightPlan plan) {
+        return INITIAL_BATTERY / maxDistanceKm(plan);
+    }
+
+    /**
+     * 현재 위치 기록 및 브로드캐스트
+     *
+     * @param plan       비행 계획
+     * @param targetStop 향하고 있는 정류장 인덱스
+     * @param lat        현재 위도
+     * @param lng        현재 경도
+     * @param batteryPct 배터리 잔량 (%)
+     */
+    public void publishPosition(FlightPlan plan, int targetStop, double lat, double lng, double batteryPct) {
+        Long routeId = plan.getRouteId();
+        LocalDateTime now = simulationClock.now();
+
+        // 위치 저장 요청 (PositionWriter가 모아서 일괄 저장)
+        positionWriter.enqueue(new PositionSample(
+                routeId,
+                targetStop > 0 ? plan.getStopIds()[targetStop - 1] : 0L,
+                plan.getStopIds()[targetStop],
+                lat, lng, DRONE_SPEED_MS, batteryPct, now));
+
+        // 최신 위치 갱신 (현재 위치 조회 API용)
+        latestPositionRegistry.update(routeId, lat, lng, DRONE_SPEED_MS, batteryPct, now);
+
+        // WebSocket으로 브로드캐스트 (구독자가 있는 목적지만)
+        long epochMillis = now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // 구간 전송 방식: 새 구간 시작 또는 계산 위치와 차이가 클 때만 JSON 전송
+        // 클라이언트는 실제 시간(Date.now())으로 위치를 계산하므로 구간 시각과 속도는 실제 시간 기준 (scaled면 배속 반영)
+        SegmentTracker.Segment segment = null;
+        boolean sendJson = true;
+        if (isSegmentMode()) {
+            segment = segmentTracker.update(routeId, targetStop, lat, lng,
+                    plan.getLat()[targetStop], plan.getLng()[targetStop],
+                    DRONE_SPEED_MS * simulationClock.wallRate(), System.currentTimeMillis());
+            sendJson = segment != null;
+        }
+
+        // Route 구독자에게 전송 (점주용)
+        String routeDestination = plan.getRouteDestination();
+        if (sendJson && subscriptionRegistry.hasSubscribers(routeDestination)) {
+            Map<String, Object> positionData = new HashMap<>();
+            positionData.put("routeId", routeId);
+            putPosition(positionData, lat, lng, batteryPct, now, segment, plan);
+
+            messagingTemplate.convertAndSend(routeDestination, positionData);
+        }
+        if (subscriptionRegistry.hasSubscribers(plan.getRouteCompactDestination())) {
+            byte[] frame = PositionFrameEncoder.encode(PositionFrameEncoder.KIND_ROUTE, routeId,
+                    lat, lng, DRONE_SPEED_KMH, batteryPct, epochMillis);
+            messagingTemplate.convertAndSend(plan.getRouteCompactDestination(), frame, COMPACT_HEADERS);
+        }
+
+        // 아직 배송되지 않은 모든 주문들에게 위치 정보 전송 (고객용)
+        // 현재 향하고 있는 stop 이후의 모든 DROP stop들의 주문에게 전송
+        long[] orderIds = plan.getFlatOrderIds();
+        String[] destinations = plan.getOrderPositionDestinations();
+        String[] compactDestinations = plan.getOrderCompactDestinations();
+        for (int k = plan.remainingOrderStart(targetStop); k < orderIds.length; k++) {
+            if (sendJson && subscriptionRegistry.hasSubscribers(destinations[k])) {
+                Map<String, Object> customerPositionData = new HashMap<>();
+                customerPositionData.put("orderId", orderIds[k]);
+                putPosition(customerPositionData, lat, lng, batteryPct, now, segment, plan);
+                customerPositionData.put("status", "IN_TRANSIT");
+
+                messagingTemplate.convertAndSend(destinations[k], customerPositionData);
+            }
+            if (subscriptionRegistry.hasSubscribers(compactDestinations[k])) {
+                byte[] frame = PositionFrameEncoder.encode(PositionFrameEncoder.KIND_ORDER, orderIds[k],
+                        lat, lng, DRONE_SPEED_KMH, batteryPct, epochMillis);
+                messagingTemplate.convertAndSend(compactDestinations[k], frame, COMPACT_HEADERS);
+            }
+        }
+    }
+
+    private boolean isSegmentMode() {
+        return "segment".equalsIgnoreCase(publishMode);
+    }
+
+    /**
+     * 위치 메시지 공통 필드
+     * 구간 전송 방식이면 클라이언트가 위치를 계산할 수 있도록 구간 정보를 함께 담습니다.
+     */
+    private void putPosition(Map<String, Object> data, double lat, double lng, double batteryPct,
+                             LocalDateTime now, SegmentTracker.Segment segment, FlightPlan plan) {
+        data.put("lat", lat);
+        data.put("lng", lng);
+        data.put("speed", DRONE_SPEED_KMH);
+        data.put("battery", batteryPct);
+        data.put("timestamp", now);
+
+        if (segment != null) {
+            data.put("type", "SEGMENT");
+            data.put("reason", segment.getReason().name());
+            data.put("toLat", segment.getToLat());
+            data.put("toLng", segment.getToLng());
+            data.put("speedMps", segment.getSpeedMps());
+            data.put("distanceKm", segment.distanceKm());
+            data.put("batteryDrainPerKm", batteryDrainRatePerKm(plan));
+            data.put("startedAt", segment.getStartedAtMillis());
+        }
+    }
+
+    /**
+     * 비행 완료 (별도 트랜잭션)
+     * Route를 COMPLETED로, 드론을 IDLE로 변경하고 FlightLog를 생성합니다.
+     *
+     * @param plan            비행 계획
+     * @param flightStartTime 비행 시작 시각
+     * @param distanceKm      총 비행 거리 (km)
+     */
+    public void completeFlight(FlightPlan plan, LocalDateTime flightStartTime, double distanceKm) {
+        Long routeId = plan.getRouteId();
+
+        DefaultTransactionDefinition txDef = new DefaultTransactionDefinition();
+        txDef.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        TransactionStatus txStatus = transactionManager.getTransaction(txDef);
+
+        try {
+            Route routeToComplete = routeRepository.findById(routeId)
+                    .orElseThrow(() -> new IllegalArgumentException("Route not found: " + routeId));
+
+            routeToComplete.complete(simulationClock.now());
+            routeRepository.saveAndFlush(routeToComplete);
+            log.info("Route 완료 - RouteId: {}", routeId);
+
+            // 드론 상태를 IDLE로 변경
+            Drone droneToUpdate = droneRepository.findById(plan.getDroneId())
+                    .orElseThrow(() -> new IllegalArgumentException("Drone not found: " + plan.getDroneId()));
+            droneToUpdate.changeStatus(DroneStatus.IDLE);
+            droneRepository.saveAndFlush(droneToUpdate);
+            log.info("드론 상태 변경 - DroneId: {}, Status: IDLE", droneToUpdate.getDroneId());
+
+            // 드론 대기 전환 이벤트 발행 (커밋 후 해당 매장의 대기 주문 배송)
+            eventPublisher.publishEvent(new DroneIdleEvent(droneToUpdate.getDroneId(), plan.getStoreId()));
+
+            // FlightLog 생성
+            LocalDateTime flightEndTime = simulationClock.now();
+            int batteryUsed = (int) Math.min(INITIAL_BATTERY, distanceKm * 5);
+
+            FlightLog flightLog = FlightLog.builder()
+                    .route(routeToComplete)
+                    .drone(droneToUpdate)
+                    .startTime(flightStartTime)
+                    .endTime(flightEndTime)
+                    .distance(BigDecimal.valueOf(distanceKm).setScale(3, RoundingMode.HALF_UP))
+                    .batteryUsed(batteryUsed)
+                    .result(FlightResult.SUCCESS)
+                    .note("Flight completed successfully")
+                    .build();
+
+            flightLogRepository.saveAndFlush(flightLog);
+            log.info("FlightLog 생성 완료 - 총 거리: {}km, 배터리 사용: {}%",
+                    String.format("%.2f", distanceKm), batteryUsed);
+
+            transactionManager.commit(txStatus);
+
+            // 최신 위치는 남겨 둠: 마지막 위치들이 아직 PositionWriter 버퍼에 있을 수 있으므로
+            // stale-after-ms가 지나 정리된 뒤부터 현재 위치 조회는 DB에서 처리
+            segmentTracker.remove(routeId);
+        } catch (RuntimeException e) {
+            if (!txStatus.isCompleted()) {
+                transactionManager.rollback(txStatus);
+            }
+            throw e;
+        }
+    }
+}
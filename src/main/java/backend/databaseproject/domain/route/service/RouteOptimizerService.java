@@ -1,130 +1,251 @@
 package backend.databaseproject.domain.route.service;
 
 import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.route.optimizer.DistanceMatrix;
+import backend.databaseproject.domain.route.optimizer.HeldKarpSolver;
+import backend.databaseproject.domain.route.optimizer.MultiStartTourSearch;
+import backend.databaseproject.domain.route.optimizer.OptimizedRoute;
+import backend.databaseproject.domain.route.optimizer.SearchBudget;
+import backend.databaseproject.domain.route.optimizer.TourImprover;
 import backend.databaseproject.domain.store.entity.Store;
-import backend.databaseproject.global.util.GeoUtils;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 /**
  * 배송 경로 최적화 서비스
  * TSP (Traveling Salesman Problem) 알고리즘을 구현하여 최적의 배송 경로를 계산합니다.
+ *
+ * - 배송지가 적은 경우 (exact-solver.max-orders 이하): Held-Karp 동적 계획법으로 최적해 계산
+ * - 배송지가 많은 경우 (multi-start.min-orders 이상): 여러 초기 경로를 병렬로 개선하는 다중 시작 탐색
+ * - 그 외:
+ *   1. 구성 단계: Nearest Neighbor 휴리스틱으로 초기 경로 생성
+ *   2. 개선 단계: 설정된 TourImprover 파이프라인(2-opt, Or-opt 등)을 탐색 예산 내에서 순서대로 적용
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class RouteOptimizerService {
 
+    private static final String CONSTRUCTION_HEURISTIC = "NearestNeighbor";
+    private static final String EXACT_HEURISTIC = "HeldKarp";
+    private static final String MULTI_START_HEURISTIC = "MultiStart";
+    private static final int HEURISTIC_MAX_LENGTH = 40; // route.heuristic 컬럼 길이
+
+    private final List<TourImprover> tourImprovers;
+    private final HeldKarpSolver heldKarpSolver;
+    private final MultiStartTourSearch multiStartTourSearch;
+
+    /**
+     * 이 개수 이하의 배송지는 Held-Karp로 최적해를 구함 (0이면 비활성화)
+     */
+    @Value("${delivery.route-optimizer.exact-solver.max-orders:12}")
+    private int exactMaxOrders;
+
+    /**
+     * 개선 파이프라인 (적용 순서대로, TourImprover.getName() 기준)
+     */
+    @Value("${delivery.route-optimizer.improvers:2-opt,Or-opt}")
+    private String[] improverNames;
+
+    @Value("${delivery.route-optimizer.local-search.time-budget-ms:200}")
+    private long timeBudgetMs;
+
+    @Value("${delivery.route-optimizer.local-search.max-iterations:1000}")
+    private int maxIterations;
+
+    @Value("${delivery.route-optimizer.multi-start.enabled:true}")
+    private boolean multiStartEnabled;
+
+    /**
+     * 이 개수 이상의 배송지는 다중 시작 탐색 사용
+     */
+    @Value("${delivery.route-optimizer.multi-start.min-orders:20}")
+    private int multiStartMinOrders;
+
+    @Value("${delivery.route-optimizer.multi-start.starts:64}")
+    private int multiStartStarts;
+
+    @Value("${delivery.route-optimizer.multi-start.time-budget-ms:300}")
+    private long multiStartTimeBudgetMs;
+
+    private List<TourImprover> pipeline;
+
+    @PostConstruct
+    void initPipeline() {
+        if (exactMaxOrders > HeldKarpSolver.MAX_NODES) {
+            log.warn("Held-Karp 최대 배송지 수 설정({})이 허용 범위를 넘어 {}로 제한합니다.",
+                    exactMaxOrders, HeldKarpSolver.MAX_NODES);
+            exactMaxOrders = HeldKarpSolver.MAX_NODES;
+        }
+
+        pipeline = new ArrayList<>();
+        for (String name : improverNames) {
+            tourImprovers.stream()
+                    .filter(improver -> improver.getName().equalsIgnoreCase(name.trim()))
+                    .findFirst()
+                    .ifPresentOrElse(pipeline::add,
+                            () -> log.warn("알 수 없는 경로 개선 단계입니다. 무시합니다 - {}", name));
+        }
+        log.info("경로 개선 파이프라인: {}, 시간 예산: {}ms, 최대 반복: {}회",
+                pipeline.stream().map(TourImprover::getName).toList(), timeBudgetMs, maxIterations);
+    }
+
     /**
-     * Nearest Neighbor 휴리스틱을 사용한 경로 최적화
+     * 경로 최적화 (배송지 수에 따라 Held-Karp 또는 Nearest Neighbor + Local Search)
      *
      * @param orders 같은 매장의 배송 요청들
      * @param store    출발 매장
-     * @return 최적화된 순서의 배송 요청 리스트
+     * @return 최적화된 순서의 배송 요청 리스트와 사용된 알고리즘 정보
+     */
+    public OptimizedRoute optimizeRoute(List<Order> orders, Store store) {
+        if (orders == null || orders.isEmpty()) {
+            log.warn("최적화할 배송 요청이 없습니다.");
+            return new OptimizedRoute(new ArrayList<>(), CONSTRUCTION_HEURISTIC, 0.0, 0.0);
+        }
+        return optimizeRoute(orders, store, DistanceMatrix.of(store, orders));
+    }
+
+    /**
+     * 배치에서 미리 계산한 거리 행렬을 사용한 경로 최적화
+     *
+     * @param orders 같은 매장의 배송 요청들 (모두 matrix에 포함되어 있어야 함)
+     * @param store  출발 매장 (matrix의 노드 0)
+     * @param matrix 배치 단위 거리 행렬
+     * @return 최적화된 순서의 배송 요청 리스트와 사용된 알고리즘 정보
      */
-    public List<Order> optimizeRoute(List<Order> orders, Store store) {
+    public OptimizedRoute optimizeRoute(List<Order> orders, Store store, DistanceMatrix matrix) {
         if (orders == null || orders.isEmpty()) {
             log.warn("최적화할 배송 요청이 없습니다.");
-            return new ArrayList<>();
+            return new OptimizedRoute(new ArrayList<>(), CONSTRUCTION_HEURISTIC, 0.0, 0.0);
         }
 
         if (orders.size() == 1) {
             log.info("배송 요청이 1개이므로 최적화를 생략합니다.");
-            return new ArrayList<>(orders);
+            double distance = matrix.tourDistance(orders);
+            return new OptimizedRoute(new ArrayList<>(orders), CONSTRUCTION_HEURISTIC, distance, distance);
         }
 
         log.info("경로 최적화 시작 - 매장: {}, 배송 요청 수: {}", store.getName(), orders.size());
 
-        List<Order> optimizedRoute = new ArrayList<>();
-        Set<Order> unvisited = new HashSet<>(orders);
+        int[] nodes = new int[orders.size()];
+        for (int i = 0; i < orders.size(); i++) {
+            nodes[i] = matrix.nodeOf(orders.get(i));
+        }
 
-        // 현재 위치 (매장에서 시작)
-        BigDecimal currentLat = store.getLat();
-        BigDecimal currentLng = store.getLng();
+        // 1. 구성 단계: Nearest Neighbor (정확해 계산 시에도 비교 기준으로 사용)
+        int[] tour = nearestNeighbor(nodes, matrix);
+        double initialDistance = matrix.tourDistance(tour);
+
+        String heuristic;
+        if (orders.size() <= exactMaxOrders) {
+            // 2-a. 배송지가 적으면 최적해 계산
+            tour = heldKarpSolver.solve(nodes, matrix);
+            heuristic = EXACT_HEURISTIC;
+        } else if (multiStartEnabled && orders.size() >= multiStartMinOrders) {
+            // 2-b. 배송지가 많으면 병렬 다중 시작 탐색
+            tour = multiStartTourSearch.search(nodes, matrix, pipeline, multiStartStarts,
+                    multiStartTimeBudgetMs, maxIterations, store.getStoreId() == null ? 0L : store.getStoreId());
+            heuristic = chainOf(MULTI_START_HEURISTIC, pipeline);
+        } else {
+            // 2-c. 개선 단계: Local Search 파이프라인
+            heuristic = improve(tour, matrix);
+        }
+        double totalDistance = matrix.tourDistance(tour);
 
-        // Nearest Neighbor 알고리즘 적용
-        while (!unvisited.isEmpty()) {
-            Order nearest = null;
+        List<Order> optimizedRoute = new ArrayList<>(orders.size());
+        for (int p = 1; p < tour.length - 1; p++) {
+            optimizedRoute.add(matrix.orderAt(tour[p]));
+        }
+
+        log.info("경로 최적화 완료 - 알고리즘: {}, 총 거리: {}km → {}km, 배송지 수: {}",
+                heuristic, String.format("%.2f", initialDistance), String.format("%.2f", totalDistance),
+                optimizedRoute.size());
+
+        return new OptimizedRoute(optimizedRoute, heuristic, initialDistance, totalDistance);
+    }
+
+    /**
+     * Nearest Neighbor로 초기 경로 구성
+     * 매장(노드 0)에서 출발하여 방문하지 않은 배송지 중 가장 가까운 곳을 차례로 선택합니다.
+     *
+     * @param nodes 방문할 배송지 노드들
+     * @return 매장 → 배송지들 → 매장 순서의 노드 배열
+     */
+    private int[] nearestNeighbor(int[] nodes, DistanceMatrix matrix) {
+        int n = nodes.length;
+        int[] tour = new int[n + 2];
+        boolean[] visited = new boolean[n];
+
+        int current = DistanceMatrix.STORE_NODE; // 매장에서 시작
+        for (int p = 1; p <= n; p++) {
+            int nearest = -1;
             double minDistance = Double.MAX_VALUE;
 
             // 방문하지 않은 요청 중 가장 가까운 것 찾기
-            for (Order order : unvisited) {
-                double distance = GeoUtils.calculateDistance(
-                        currentLat.doubleValue(),
-                        currentLng.doubleValue(),
-                        order.getDestLat().doubleValue(),
-                        order.getDestLng().doubleValue()
-                );
-
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    nearest = order;
+            for (int k = 0; k < n; k++) {
+                if (!visited[k]) {
+                    double distance = matrix.distance(current, nodes[k]);
+                    if (distance < minDistance) {
+                        minDistance = distance;
+                        nearest = k;
+                    }
                 }
             }
 
-            // 가장 가까운 요청을 경로에 추가
-            if (nearest != null) {
-                optimizedRoute.add(nearest);
-                unvisited.remove(nearest);
+            tour[p] = nodes[nearest];
+            visited[nearest] = true;
+            current = nodes[nearest];
+        }
 
-                // 현재 위치를 방금 추가한 배송지로 업데이트
-                currentLat = nearest.getDestLat();
-                currentLng = nearest.getDestLng();
+        return tour;
+    }
 
-                log.debug("다음 배송지 선택 - OrderId: {}, 거리: {}km",
-                         nearest.getOrderId(), String.format("%.2f", minDistance));
+    /**
+     * 설정된 개선 단계를 탐색 예산 내에서 순서대로 적용
+     *
+     * @return 실제로 적용된 알고리즘 체인
+     */
+    private String improve(int[] tour, DistanceMatrix matrix) {
+        StringBuilder heuristic = new StringBuilder(CONSTRUCTION_HEURISTIC);
+        SearchBudget budget = SearchBudget.of(timeBudgetMs, maxIterations);
+
+        for (TourImprover improver : pipeline) {
+            if (budget.isExhausted()) {
+                log.debug("탐색 예산 소진 - {} 단계 생략", improver.getName());
+                break;
             }
-        }
 
-        // 총 경로 거리 계산
-        double totalDistance = calculateTotalDistance(optimizedRoute, store);
-        log.info("경로 최적화 완료 - 총 거리: {}km, 배송지 수: {}",
-                String.format("%.2f", totalDistance), optimizedRoute.size());
+            double before = matrix.tourDistance(tour);
+            boolean improved = improver.improve(tour, matrix, budget);
+            heuristic.append('+').append(improver.getName());
 
-        return optimizedRoute;
+            log.debug("{} 적용 - 개선: {}, 거리: {}km → {}km", improver.getName(), improved,
+                    String.format("%.3f", before), String.format("%.3f", matrix.tourDistance(tour)));
+        }
+
+        return truncate(heuristic.toString());
     }
 
     /**
-     * 최적화된 경로의 총 거리 계산
+     * 구성 단계 이름 + 개선 단계 이름들로 알고리즘 체인 생성
      */
-    private double calculateTotalDistance(List<Order> route, Store store) {
-        if (route.isEmpty()) {
-            return 0.0;
-        }
-
-        double totalDistance = 0.0;
-        BigDecimal currentLat = store.getLat();
-        BigDecimal currentLng = store.getLng();
-
-        // 매장에서 첫 배송지까지
-        for (Order order : route) {
-            double distance = GeoUtils.calculateDistance(
-                    currentLat.doubleValue(),
-                    currentLng.doubleValue(),
-                    order.getDestLat().doubleValue(),
-                    order.getDestLng().doubleValue()
-            );
-            totalDistance += distance;
-            currentLat = order.getDestLat();
-            currentLng = order.getDestLng();
+    private String chainOf(String construction, List<TourImprover> improvers) {
+        StringBuilder heuristic = new StringBuilder(construction);
+        for (TourImprover improver : improvers) {
+            heuristic.append('+').append(improver.getName());
         }
+        return truncate(heuristic.toString());
+    }
 
-        // 마지막 배송지에서 매장으로 귀환
-        double returnDistance = GeoUtils.calculateDistance(
-                currentLat.doubleValue(),
-                currentLng.doubleValue(),
-                store.getLat().doubleValue(),
-                store.getLng().doubleValue()
-        );
-        totalDistance += returnDistance;
-
-        return totalDistance;
+    private String truncate(String heuristic) {
+        return heuristic.length() > HEURISTIC_MAX_LENGTH
+                ? heuristic.substring(0, HEURISTIC_MAX_LENGTH)
+                : heuristic;
     }
 }
@@ -6,14 +6,17 @@ import backend.databaseproject.domain.route.entity.Route;
 import backend.databaseproject.domain.route.entity.RoutePosition;
 import backend.databaseproject.domain.route.repository.RoutePositionRepository;
 import backend.databaseproject.domain.route.repository.RouteRepository;
+import backend.databaseproject.domain.route.simulation.LatestPositionRegistry;
 import backend.databaseproject.global.common.BaseException;
 import backend.databaseproject.global.common.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +31,7 @@ public class RouteService {
 
     private final RouteRepository routeRepository;
     private final RoutePositionRepository routePositionRepository;
+    private final LatestPositionRegistry latestPositionRegistry;
 
     /**
      * 경로 상세 조회
@@ -51,13 +55,22 @@ public class RouteService {
 
     /**
      * 드론 현재 위치 조회
+     * 비행 중이거나 막 종료된 경로는 메모리의 최신 위치를 반환하고(DB 조회 없음),
+     * 종료 후 시간이 지났거나 알 수 없는 경로만 DB에서 조회합니다.
      *
      * @param routeId 경로 ID
      * @return 드론 현재 위치 정보
      * @throws BaseException ROUTE_NOT_FOUND, POSITION_NOT_FOUND
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public DronePositionResponse getCurrentPosition(Long routeId) {
-        log.info("드론 현재 위치 조회 - RouteId: {}", routeId);
+        log.debug("드론 현재 위치 조회 - RouteId: {}", routeId);
+
+        // 비행 중인 경로: 최신 위치 저장소에서 조회
+        Optional<LatestPositionRegistry.LatestPosition> latest = latestPositionRegistry.find(routeId);
+        if (latest.isPresent()) {
+            return DronePositionResponse.from(latest.get());
+        }
 
         // Route 존재 여부 확인
         boolean exists = routeRepository.existsById(routeId);
@@ -1,11 +1,12 @@
 package backend.databaseproject.domain.route.service;
 
-import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.order.entity.OrderStatus;
 import backend.databaseproject.domain.order.repository.OrderRepository;
 import backend.databaseproject.domain.route.entity.RouteStop;
-import backend.databaseproject.domain.route.entity.RouteStopOrder;
 import backend.databaseproject.domain.route.entity.StopType;
+import backend.databaseproject.domain.route.repository.RouteStopOrderRepository;
 import backend.databaseproject.domain.route.repository.RouteStopRepository;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -19,10 +20,14 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * RouteStop 처리 서비스 (별도 트랜잭션)
  * DroneSimulatorService에서 각 경유지 도착 처리를 즉시 커밋하기 위한 서비스
+ *
+ * 정류장 처리는 도착(arriveAtStop)과 출발(departFromStop) 두 단계로 나뉘며, 각각 짧은 독립 트랜잭션으로 커밋됩니다.
+ * DROP 정류장의 하차 대기(DROP_DWELL_MS)는 두 트랜잭션 사이에서 이루어지므로 대기 중에는 DB 커넥션을 점유하지 않습니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -30,76 +35,129 @@ import java.util.Map;
 public class RouteStopProcessingService {
 
     private final RouteStopRepository routeStopRepository;
+    private final RouteStopOrderRepository routeStopOrderRepository;
     private final OrderRepository orderRepository;
     private final SimpMessagingTemplate messagingTemplate;
     private final PlatformTransactionManager transactionManager;
+    private final SimulationClock simulationClock;
+
+    public static final long DROP_DWELL_MS = 3000L; // DROP 정류장 하차 대기 3초 (시뮬레이션 시간)
+
+    /**
+     * Stop 도착부터 출발까지 순차 처리 (순차 실행 방식용)
+     * 도착 커밋 → 하차 대기 (트랜잭션 밖) → 출발 커밋
+     */
+    public void processStopArrival(Long stopId) {
+        StopType stopType = arriveAtStop(stopId);
+
+        // DROP 타입은 잠시 대기 (배송 시뮬레이션)
+        if (requiresDeparture(stopType)) {
+            try {
+                simulationClock.sleep(DROP_DWELL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Stop 처리 실패", e);
+            }
+            departFromStop(stopId);
+        }
+    }
+
+    /**
+     * 도착 후 하차 대기와 출발 처리가 필요한 정류장인지 여부
+     */
+    public static boolean requiresDeparture(StopType stopType) {
+        return stopType == StopType.DROP;
+    }
 
     /**
      * Stop 도착 처리 (새로운 독립 트랜잭션)
      * 각 경유지마다 즉시 DB에 커밋하여 실시간으로 상태가 반영되도록 함
+     *
+     * @param stopId 정류장 ID
+     * @return 정류장 타입
      */
-    public void processStopArrival(Long stopId) {
+    public StopType arriveAtStop(Long stopId) {
+        return inNewTransaction(stopId, "도착", currentStop -> {
+            currentStop.arrive(simulationClock.now());
+            routeStopRepository.saveAndFlush(currentStop);
+            log.info("Stop 도착 완료 - StopId: {}, Type: {}", currentStop.getStopId(), currentStop.getStopType());
+            return currentStop.getStopType();
+        });
+    }
+
+    /**
+     * Stop 출발 처리 (새로운 독립 트랜잭션)
+     * 정류장을 출발 상태로 바꾸고, 이 정류장과 연결된 주문들을 한 번의 UPDATE로 완료 처리합니다.
+     * 배송 완료 알림은 커밋 후 한 번에 전송합니다.
+     *
+     * @param stopId 정류장 ID
+     */
+    public void departFromStop(Long stopId) {
+        LocalDateTime departedAt = simulationClock.now();
+
+        List<Long> orderIds = inNewTransaction(stopId, "출발", currentStop -> {
+            currentStop.depart(departedAt);
+            routeStopRepository.saveAndFlush(currentStop);
+
+            // 이 정류장과 연결된 주문들을 완료 처리 (주문 수와 무관하게 UPDATE 1회)
+            List<Long> stopOrderIds = routeStopOrderRepository.findOrderIdsByStopId(stopId);
+            if (!stopOrderIds.isEmpty()) {
+                int updated = orderRepository.bulkCompleteDelivery(stopOrderIds, OrderStatus.FULFILLED, departedAt);
+                log.info("주문 완료 처리 - StopId: {}, 주문: {}건", stopId, updated);
+            }
+            return stopOrderIds;
+        });
+
+        sendCompletionNotifications(orderIds, departedAt);
+    }
+
+    /**
+     * WebSocket으로 배송 완료 알림 전송
+     * 주문마다 구독 경로가 다르므로 메시지는 주문별로 보내되, 커밋이 끝난 뒤 한 번에 전송합니다.
+     */
+    private void sendCompletionNotifications(List<Long> orderIds, LocalDateTime completedAt) {
+        for (Long orderId : orderIds) {
+            Map<String, Object> completionData = new HashMap<>(4);
+            completionData.put("orderId", orderId);
+            completionData.put("status", "FULFILLED");
+            completionData.put("message", "배송이 완료되었습니다!");
+            completionData.put("completedAt", completedAt);
+            messagingTemplate.convertAndSend("/topic/order/" + orderId, completionData);
+        }
+        if (!orderIds.isEmpty()) {
+            log.info("배송 완료 알림 전송 - 주문 ID: {}", orderIds);
+        }
+    }
+
+    /**
+     * 정류장을 새 트랜잭션에서 조회하여 처리한 뒤 즉시 커밋
+     */
+    private <T> T inNewTransaction(Long stopId, String phase, Function<RouteStop, T> work) {
         // 새로운 트랜잭션 정의
         DefaultTransactionDefinition def = new DefaultTransactionDefinition();
         def.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
         TransactionStatus status = transactionManager.getTransaction(def);
 
         try {
-            log.info("Stop 처리 시작 - StopId: {}", stopId);
+            log.info("Stop {} 처리 시작 - StopId: {}", phase, stopId);
 
             // 새 트랜잭션에서 RouteStop 조회
-            RouteStop currentStop = routeStopRepository.findByIdWithOrders(stopId)
+            RouteStop currentStop = routeStopRepository.findById(stopId)
                     .orElseThrow(() -> new IllegalArgumentException("RouteStop not found: " + stopId));
 
-            log.info("RouteStop 조회 완료 - StopId: {}, Type: {}", currentStop.getStopId(), currentStop.getStopType());
-
-            // Stop 도착 처리
-            currentStop.arrive();
-            routeStopRepository.saveAndFlush(currentStop);
-            log.info("Stop 도착 완료 - StopId: {}, Type: {}", currentStop.getStopId(), currentStop.getStopType());
-
-            // DROP 타입은 잠시 대기 (배송 시뮬레이션)
-            if (currentStop.getStopType() == StopType.DROP) {
-                Thread.sleep(3000); // 3초 대기
-                currentStop.depart();
-                routeStopRepository.saveAndFlush(currentStop);
-
-                // 이 정류장과 연결된 주문들을 완료 처리
-                List<RouteStopOrder> routeStopOrders = currentStop.getRouteStopOrders();
-                for (RouteStopOrder routeStopOrder : routeStopOrders) {
-                    Order order = routeStopOrder.getOrder();
-                    order.completeDelivery();
-                    orderRepository.saveAndFlush(order);
-
-                    log.info("주문 완료 처리 - OrderId: {}, User: {}",
-                            order.getOrderId(), order.getUser().getName());
-
-                    // WebSocket으로 배송 완료 알림 전송
-                    Map<String, Object> completionData = new HashMap<>();
-                    completionData.put("orderId", order.getOrderId());
-                    completionData.put("status", "FULFILLED");
-                    completionData.put("message", "배송이 완료되었습니다!");
-                    completionData.put("completedAt", LocalDateTime.now());
-                    messagingTemplate.convertAndSend(
-                            "/topic/order/" + order.getOrderId(),
-                            completionData
-                    );
-
-                    log.info("배송 완료 알림 전송 - OrderId: {}", order.getOrderId());
-                }
-            }
+            T result = work.apply(currentStop);
 
             // 트랜잭션 커밋
             transactionManager.commit(status);
-            log.info("Stop 처리 완료 및 커밋됨 - StopId: {}", stopId);
+            log.info("Stop {} 처리 완료 및 커밋됨 - StopId: {}", phase, stopId);
+            return result;
 
         } catch (Exception e) {
             // 트랜잭션 롤백
-            transactionManager.rollback(status);
-            log.error("Stop 처리 중 오류 발생 - StopId: {}", stopId, e);
-            if (e instanceof InterruptedException) {
-                Thread.currentThread().interrupt();
+            if (!status.isCompleted()) {
+                transactionManager.rollback(status);
             }
+            log.error("Stop {} 처리 중 오류 발생 - StopId: {}", phase, stopId, e);
             throw new RuntimeException("Stop 처리 실패", e);
         }
     }
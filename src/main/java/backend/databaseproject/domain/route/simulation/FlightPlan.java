@@ -0,0 +1,145 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.RouteStopOrder;
+import backend.databaseproject.domain.route.entity.StopType;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 비행 계획 스냅샷
+ * 비행 시작 시 Route/RouteStop/RouteStopOrder를 한 번 읽어 원시 타입 배열로 보관합니다.
+ * 시뮬레이션 도중에는 엔티티나 영속성 컨텍스트 없이 이 스냅샷만 사용합니다.
+ */
+@Getter
+public final class FlightPlan {
+
+    private static final long[] NO_ORDERS = new long[0];
+
+    /**
+     * 압축 프레임(PositionFrameEncoder) 구독용 목적지 접미사
+     */
+    public static final String COMPACT_SUFFIX = "/compact";
+
+    private final Long routeId;
+    private final Long droneId;
+    private final Long storeId;
+    private final int batteryCapacity; // mAh
+
+    /**
+     * 정류장 정보 (stopSequence 순서)
+     */
+    private final long[] stopIds;
+    private final StopType[] stopTypes;
+    private final double[] lat;
+    private final double[] lng;
+
+    /**
+     * 정류장별 주문 ID (DROP 외에는 빈 배열)
+     */
+    private final long[][] orderIds;
+
+    /**
+     * 전체 주문 ID를 정류장 순서대로 펼친 배열과 주문별 위치 전송 목적지
+     * remainingFrom[i]부터 끝까지가 i번째 정류장 이후(포함) 배송될 주문입니다.
+     */
+    private long[] flatOrderIds;
+    private String[] orderPositionDestinations;
+    private String[] orderCompactDestinations;
+    private int[] remainingFrom;
+
+    /**
+     * 경로 위치 전송 목적지 (점주용, JSON / 압축 프레임)
+     */
+    private final String routeDestination;
+    private final String routeCompactDestination;
+
+    private FlightPlan(Long routeId, Long droneId, Long storeId, int batteryCapacity, int stopCount) {
+        this.routeId = routeId;
+        this.droneId = droneId;
+        this.storeId = storeId;
+        this.batteryCapacity = batteryCapacity;
+        this.stopIds = new long[stopCount];
+        this.stopTypes = new StopType[stopCount];
+        this.lat = new double[stopCount];
+        this.lng = new double[stopCount];
+        this.orderIds = new long[stopCount][];
+        this.routeDestination = "/topic/route/" + routeId;
+        this.routeCompactDestination = routeDestination + COMPACT_SUFFIX;
+    }
+
+    /**
+     * Route 엔티티로부터 스냅샷 생성
+     * RouteStops와 RouteStopOrders가 이미 로딩된 상태(트랜잭션 안)에서 호출해야 합니다.
+     */
+    public static FlightPlan from(Route route) {
+        List<RouteStop> stops = route.getRouteStops().stream()
+                .sorted(Comparator.comparing(RouteStop::getStopSequence))
+                .toList();
+
+        FlightPlan plan = new FlightPlan(route.getRouteId(), route.getDrone().getDroneId(),
+                route.getStore().getStoreId(), route.getDrone().getBatteryCapacity(), stops.size());
+
+        for (int i = 0; i < stops.size(); i++) {
+            RouteStop stop = stops.get(i);
+            plan.stopIds[i] = stop.getStopId();
+            plan.stopTypes[i] = stop.getStopType();
+            plan.lat[i] = stop.getLat().doubleValue();
+            plan.lng[i] = stop.getLng().doubleValue();
+
+            if (stop.getStopType() == StopType.DROP) {
+                List<RouteStopOrder> routeStopOrders = stop.getRouteStopOrders();
+                long[] ids = new long[routeStopOrders.size()];
+                for (int k = 0; k < ids.length; k++) {
+                    ids[k] = routeStopOrders.get(k).getOrder().getOrderId();
+                }
+                plan.orderIds[i] = ids;
+            } else {
+                plan.orderIds[i] = NO_ORDERS;
+            }
+        }
+        plan.indexOrders();
+        return plan;
+    }
+
+    /**
+     * 주문 ID 펼침 배열, 목적지 문자열, 정류장별 시작 인덱스를 미리 계산
+     */
+    private void indexOrders() {
+        int total = 0;
+        for (long[] ids : orderIds) {
+            total += ids.length;
+        }
+
+        flatOrderIds = new long[total];
+        orderPositionDestinations = new String[total];
+        orderCompactDestinations = new String[total];
+        remainingFrom = new int[orderIds.length + 1];
+
+        int k = 0;
+        for (int i = 0; i < orderIds.length; i++) {
+            remainingFrom[i] = k;
+            for (long orderId : orderIds[i]) {
+                flatOrderIds[k] = orderId;
+                orderPositionDestinations[k] = "/topic/order/" + orderId + "/position";
+                orderCompactDestinations[k] = orderPositionDestinations[k] + COMPACT_SUFFIX;
+                k++;
+            }
+        }
+        remainingFrom[orderIds.length] = k;
+    }
+
+    /**
+     * stop번째 정류장 이후(포함) 배송될 첫 주문의 펼침 배열 인덱스
+     */
+    public int remainingOrderStart(int stop) {
+        return remainingFrom[stop];
+    }
+
+    public int stopCount() {
+        return stopIds.length;
+    }
+}
@@ -0,0 +1,332 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.domain.route.service.FlightTelemetryService;
+import backend.databaseproject.domain.route.service.RouteStopProcessingService;
+import backend.databaseproject.global.util.GeoUtils;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비행 시뮬레이션 틱 엔진
+ * 비행마다 스레드를 잡아두고 Thread.sleep으로 기다리는 대신, 단일 스케줄러 스레드가
+ * tick-interval-ms마다 진행 중인 모든 비행을 한 번에 전진시킵니다.
+ *
+ * - 틱 스레드: 위치 계산과 상태 전이만 수행 (DB/WebSocket 호출 없음)
+ * - 작업 스레드: 위치 저장/브로드캐스트, 정류장 도착/출발 트랜잭션, 비행 시작/완료 트랜잭션
+ *
+ * DROP 정류장의 하차 대기는 작업 스레드에서 sleep하지 않고 DWELLING 상태로 시뮬레이션 시계를 기준으로 기다립니다.
+ * 대기 중에는 작업 스레드도, DB 커넥션도 점유하지 않습니다.
+ *
+ * 비행별로 한 번에 하나의 작업만 실행되며, 이전 위치 전송이 끝나지 않았으면 해당 틱의 전송은 건너뜁니다.
+ * 따라서 동시 비행 수는 스레드 수가 아니라 틱 간격 안에 처리 가능한 작업량으로 제한됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FlightTickEngine {
+
+    private final FlightTelemetryService flightTelemetryService;
+    private final RouteStopProcessingService routeStopProcessingService;
+    private final SimulationClock simulationClock;
+
+    private static final double INITIAL_BATTERY_PCT = FlightTelemetryService.INITIAL_BATTERY; // 초기 배터리 100%
+
+    @Value("${delivery.simulation.tick-interval-ms:2000}")
+    private long tickIntervalMs;
+
+    @Value("${delivery.simulation.worker-threads:4}")
+    private int workerThreads;
+
+    /**
+     * 작업마다 가상 스레드 사용 여부
+     * DB/WebSocket 호출에서 블로킹되는 작업이 작업 스레드를 오래 점유하지 않도록 합니다.
+     * 동시 DB 작업 수는 커넥션 풀 크기로 제한됩니다.
+     */
+    @Value("${delivery.simulation.virtual-workers:false}")
+    private boolean virtualWorkers;
+
+    private ScheduledExecutorService tickScheduler;
+    private ExecutorService flightWorkers;
+
+    /**
+     * 진행 중인 비행 (RouteId → 비행 상태)
+     */
+    private final Map<Long, ActiveFlight> activeFlights = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        if (virtualWorkers) {
+            flightWorkers = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("flight-worker-vt-", 1).factory());
+        } else {
+            AtomicInteger workerNumber = new AtomicInteger();
+            flightWorkers = Executors.newFixedThreadPool(Math.max(1, workerThreads),
+                    runnable -> new Thread(runnable, "flight-worker-" + workerNumber.incrementAndGet()));
+        }
+        tickScheduler = Executors.newSingleThreadScheduledExecutor(
+                runnable -> new Thread(runnable, "flight-tick"));
+        if (simulationClock.isDiscrete()) {
+            tickScheduler.schedule(this::discreteTick, tickIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            // 시뮬레이션 시계 기준 tick-interval-ms마다 실행 (scaled 모드는 배속만큼 짧은 주기)
+            long periodMs = simulationClock.toWallMillis(tickIntervalMs);
+            tickScheduler.scheduleAtFixedRate(this::tick, periodMs, periodMs, TimeUnit.MILLISECONDS);
+        }
+        log.info("비행 틱 엔진 시작 - 틱 간격: {}ms, 작업 스레드: {}", tickIntervalMs,
+                virtualWorkers ? "가상 스레드" : workerThreads + "개");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        tickScheduler.shutdownNow();
+        flightWorkers.shutdownNow();
+        if (!activeFlights.isEmpty()) {
+            log.warn("진행 중인 비행 {}건이 종료됩니다", activeFlights.size());
+        }
+    }
+
+    /**
+     * 비행 시작
+     * Route를 LAUNCHED로 변경한 뒤 비행 계획을 엔진에 등록합니다. 다음 틱부터 이동합니다.
+     *
+     * @param routeId 경로 ID
+     */
+    public void start(Long routeId) {
+        log.info("드론 비행 시뮬레이션 시작 - RouteId: {}", routeId);
+
+        flightWorkers.execute(() -> {
+            try {
+                FlightPlan plan = flightTelemetryService.launch(routeId);
+                if (plan == null) {
+                    return;
+                }
+                ActiveFlight flight = new ActiveFlight(plan, simulationClock.now());
+                flight.beginLeg(0);
+                flight.pending = CompletableFuture.runAsync(
+                        () -> publish(flight.plan, 0, flight.fromLat, flight.fromLng, INITIAL_BATTERY_PCT),
+                        flightWorkers);
+                activeFlights.put(routeId, flight);
+            } catch (Exception e) {
+                log.error("비행 시뮬레이션 시작 실패 - RouteId: {}", routeId, e);
+            }
+        });
+    }
+
+    /**
+     * 진행 중인 비행 수
+     */
+    public int activeFlightCount() {
+        return activeFlights.size();
+    }
+
+    /**
+     * 한 틱 처리: 모든 비행을 한 단계씩 전진
+     * 한 비행의 오류가 다른 비행이나 스케줄러를 멈추지 않도록 비행별로 예외를 처리합니다.
+     */
+    private void tick() {
+        double stepKm = FlightTelemetryService.DRONE_SPEED_MS * tickIntervalMs / 1000.0 / 1000.0;
+
+        for (ActiveFlight flight : activeFlights.values()) {
+            try {
+                advance(flight, stepKm);
+            } catch (Exception e) {
+                log.error("비행 시뮬레이션 오류 발생 - RouteId: {}", flight.plan.getRouteId(), e);
+                activeFlights.remove(flight.plan.getRouteId());
+            }
+        }
+    }
+
+    /**
+     * discrete 시계용 틱: 한 틱의 작업이 모두 끝나면 시계를 틱 간격만큼 전진시키고 곧바로 다음 틱 실행
+     * 진행 중인 비행이 없으면 실제 시간으로 틱 간격만큼 쉬었다가 전진합니다.
+     */
+    private void discreteTick() {
+        try {
+            tick();
+            for (ActiveFlight flight : activeFlights.values()) {
+                flight.pending.handle((ignored, error) -> null).join();
+            }
+        } catch (Exception e) {
+            log.error("비행 틱 처리 중 오류 발생", e);
+        } finally {
+            simulationClock.advance(tickIntervalMs);
+            if (!tickScheduler.isShutdown()) {
+                long delayMs = activeFlights.isEmpty() ? tickIntervalMs : 0L;
+                tickScheduler.schedule(this::discreteTick, delayMs, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    private void advance(ActiveFlight flight, double stepKm) {
+        FlightPlan plan = flight.plan;
+
+        switch (flight.phase) {
+            case FLYING -> {
+                double moveKm = Math.min(stepKm, flight.legDistanceKm - flight.legTraveledKm);
+                flight.legTraveledKm += moveKm;
+                flight.totalTraveledKm += moveKm;
+
+                double fraction = flight.legDistanceKm > 0 ? flight.legTraveledKm / flight.legDistanceKm : 1.0;
+                double[] position = GeoUtils.interpolate(
+                        flight.fromLat, flight.fromLng,
+                        plan.getLat()[flight.leg], plan.getLng()[flight.leg],
+                        fraction
+                );
+                double batteryPct = Math.max(0, INITIAL_BATTERY_PCT
+                        - flight.totalTraveledKm * flightTelemetryService.batteryDrainRatePerKm(plan));
+                boolean arrived = fraction >= 1.0;
+                int leg = flight.leg;
+
+                if (arrived) {
+                    // 마지막 위치 전송이 끝난 뒤 정류장 도착 처리 (별도 트랜잭션)
+                    long stopId = plan.getStopIds()[leg];
+                    flight.pending = flight.pending
+                            .handle((ignored, error) -> null)
+                            .thenRunAsync(() -> publish(plan, leg, position[0], position[1], batteryPct), flightWorkers)
+                            .thenRunAsync(() -> routeStopProcessingService.arriveAtStop(stopId), flightWorkers);
+                    flight.phase = Phase.ARRIVING;
+                    log.info("정류장 도착 - RouteId: {}, Stop: {}/{}, 배터리: {}%",
+                            plan.getRouteId(), leg + 1, plan.stopCount(), String.format("%.1f", batteryPct));
+                } else if (flight.pending.isDone()) {
+                    flight.pending = CompletableFuture.runAsync(
+                            () -> publish(plan, leg, position[0], position[1], batteryPct), flightWorkers);
+                } else {
+                    log.debug("이전 위치 전송 미완료로 이번 틱 전송 생략 - RouteId: {}", plan.getRouteId());
+                }
+            }
+            case ARRIVING -> {
+                if (!awaitStopTransaction(flight)) {
+                    return;
+                }
+                if (RouteStopProcessingService.requiresDeparture(plan.getStopTypes()[flight.leg])) {
+                    // 하차 대기: 트랜잭션 밖에서 시뮬레이션 시계로 대기
+                    flight.dwellUntilMillis = simulationClock.millis() + RouteStopProcessingService.DROP_DWELL_MS;
+                    flight.phase = Phase.DWELLING;
+                } else {
+                    leaveStop(flight, stepKm);
+                }
+            }
+            case DWELLING -> {
+                if (simulationClock.millis() < flight.dwellUntilMillis) {
+                    return;
+                }
+                long stopId = plan.getStopIds()[flight.leg];
+                flight.pending = CompletableFuture.runAsync(
+                        () -> routeStopProcessingService.departFromStop(stopId), flightWorkers);
+                flight.phase = Phase.DEPARTING;
+            }
+            case DEPARTING -> {
+                if (awaitStopTransaction(flight)) {
+                    leaveStop(flight, stepKm);
+                }
+            }
+            case COMPLETING -> {
+                if (flight.pending.isDone()) {
+                    activeFlights.remove(plan.getRouteId());
+                    flight.pending.join();
+                }
+            }
+        }
+    }
+
+    /**
+     * 정류장 트랜잭션 완료 여부 확인
+     * 정류장 처리 실패 시 기존 순차 실행과 같이 예외를 던져 비행을 중단합니다.
+     *
+     * @return 완료되었으면 true, 아직 진행 중이면 false
+     */
+    private boolean awaitStopTransaction(ActiveFlight flight) {
+        if (!flight.pending.isDone()) {
+            return false;
+        }
+        if (flight.pending.isCompletedExceptionally()) {
+            flight.pending.join();
+        }
+        return true;
+    }
+
+    /**
+     * 정류장을 떠나 다음 구간으로 이동하거나, 마지막 정류장이면 비행 완료 처리
+     */
+    private void leaveStop(ActiveFlight flight, double stepKm) {
+        FlightPlan plan = flight.plan;
+        if (flight.leg + 1 < plan.stopCount()) {
+            flight.beginLeg(flight.leg + 1);
+            advance(flight, stepKm);
+        } else {
+            flight.phase = Phase.COMPLETING;
+            flight.pending = CompletableFuture.runAsync(
+                    () -> flightTelemetryService.completeFlight(plan, flight.startTime, flight.totalTraveledKm),
+                    flightWorkers);
+        }
+    }
+
+    private void publish(FlightPlan plan, int targetStop, double lat, double lng, double batteryPct) {
+        try {
+            flightTelemetryService.publishPosition(plan, targetStop, lat, lng, batteryPct);
+        } catch (Exception e) {
+            log.warn("위치 전송 실패 - RouteId: {}", plan.getRouteId(), e);
+        }
+    }
+
+    private enum Phase {
+        FLYING,      // 정류장을 향해 이동 중
+        ARRIVING,    // 정류장 도착 트랜잭션 처리 중
+        DWELLING,    // DROP 정류장 하차 대기 중 (작업 없음)
+        DEPARTING,   // 정류장 출발/주문 완료 트랜잭션 처리 중
+        COMPLETING   // 비행 완료 처리 중
+    }
+
+    /**
+     * 진행 중인 비행 상태
+     * 틱 스레드에서만 변경합니다 (pending 작업은 작업 스레드에서 실행).
+     */
+    private static final class ActiveFlight {
+
+        private final FlightPlan plan;
+        private final LocalDateTime startTime;
+
+        private Phase phase = Phase.FLYING;
+        private int leg;                 // 향하고 있는 정류장 인덱스
+        private double fromLat;
+        private double fromLng;
+        private double legDistanceKm;
+        private double legTraveledKm;
+        private double totalTraveledKm;
+        private long dwellUntilMillis;   // 하차 대기 종료 시각 (시뮬레이션 시계 기준)
+        private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+        private ActiveFlight(FlightPlan plan, LocalDateTime startTime) {
+            this.plan = plan;
+            this.startTime = startTime;
+        }
+
+        /**
+         * 다음 구간 시작 (첫 구간은 첫 정류장 위치에서 출발)
+         */
+        private void beginLeg(int nextLeg) {
+            int from = nextLeg == 0 ? 0 : nextLeg - 1;
+            this.leg = nextLeg;
+            this.fromLat = plan.getLat()[from];
+            this.fromLng = plan.getLng()[from];
+            this.legDistanceKm = GeoUtils.calculateDistance(fromLat, fromLng,
+                    plan.getLat()[nextLeg], plan.getLng()[nextLeg]);
+            this.legTraveledKm = 0.0;
+            this.phase = Phase.FLYING;
+        }
+    }
+}
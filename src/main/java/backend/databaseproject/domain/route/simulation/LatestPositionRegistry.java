@@ -0,0 +1,87 @@
+package backend.databaseproject.domain.route.simulation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비행 중인 경로의 최신 위치 저장소
+ * 시뮬레이터가 위치를 전송할 때마다 갱신하며, 현재 위치 조회 API가 DB보다 먼저 조회합니다.
+ * 비행이 끝나도 바로 제거하지 않고 stale-after-ms가 지나 정리될 때까지 마지막 위치를 반환합니다.
+ * 마지막 위치들이 아직 PositionWriter 버퍼에 남아 DB에 없을 수 있기 때문이며, 이후 조회는 route_position 테이블에서 처리합니다.
+ */
+@Component
+@Slf4j
+public class LatestPositionRegistry {
+
+    /**
+     * 이 시간 동안 갱신되지 않은 위치는 종료된 비행으로 보고 제거 (ms, 위치 저장 지연보다 길어야 함)
+     */
+    @Value("${delivery.simulation.latest-position.stale-after-ms:60000}")
+    private long staleAfterMs;
+
+    private final Map<Long, LatestPosition> positions = new ConcurrentHashMap<>();
+
+    /**
+     * 최신 위치 갱신
+     */
+    public void update(long routeId, double lat, double lng, double speedMps, double batteryPct, LocalDateTime ts) {
+        positions.put(routeId, new LatestPosition(routeId, lat, lng, speedMps, batteryPct, ts, System.currentTimeMillis()));
+    }
+
+    /**
+     * 최신 위치 조회
+     *
+     * @param routeId 경로 ID
+     * @return 비행 중이거나 막 종료된 경로면 최신 위치, 아니면 empty
+     */
+    public Optional<LatestPosition> find(Long routeId) {
+        LatestPosition position = positions.get(routeId);
+        if (position == null || isStale(position, System.currentTimeMillis())) {
+            return Optional.empty();
+        }
+        return Optional.of(position);
+    }
+
+    /**
+     * 오래 갱신되지 않은 위치 정리 (종료된 비행, 비행 오류로 멈춘 경로)
+     */
+    @Scheduled(fixedDelayString = "${delivery.simulation.latest-position.stale-after-ms:60000}")
+    public void evictStale() {
+        long now = System.currentTimeMillis();
+        int before = positions.size();
+        positions.values().removeIf(position -> isStale(position, now));
+        int evicted = before - positions.size();
+        if (evicted > 0) {
+            log.info("갱신이 멈춘 최신 위치 {}건 정리", evicted);
+        }
+    }
+
+    private boolean isStale(LatestPosition position, long now) {
+        return now - position.getUpdatedAtMillis() > staleAfterMs;
+    }
+
+    /**
+     * 경로의 최신 위치 (원시 타입)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class LatestPosition {
+
+        private final long routeId;
+        private final double lat;
+        private final double lng;
+        private final double speedMps;
+        private final double batteryPct;
+        private final LocalDateTime ts;
+        private final long updatedAtMillis;
+    }
+}
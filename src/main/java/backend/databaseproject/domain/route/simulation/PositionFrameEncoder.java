@@ -0,0 +1,72 @@
+package backend.databaseproject.domain.route.simulation;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 드론 위치 압축 프레임 인코더
+ * JSON(HashMap) 대신 32바이트 고정 길이 바이너리로 위치를 인코딩합니다.
+ * ".../compact" 목적지를 구독한 클라이언트에게 application/octet-stream으로 전송됩니다.
+ *
+ * 레이아웃 (big-endian, JavaScript DataView 기본값과 동일)
+ * <pre>
+ * offset  size  필드
+ *  0      1     버전 (1)
+ *  1      1     종류 (0: 경로 위치, 1: 주문 위치 IN_TRANSIT)
+ *  2      2     배터리 잔량 (% x 100, unsigned)
+ *  4      8     ID (종류 0이면 routeId, 1이면 orderId)
+ * 12      4     위도 (도 x 1,000,000, signed)
+ * 16      4     경도 (도 x 1,000,000, signed)
+ * 20      2     속도 (km/h x 100, unsigned)
+ * 22      2     예약 (0)
+ * 24      8     기록 시각 (epoch millis, UTC)
+ * </pre>
+ * 위도/경도 정밀도는 route_position 컬럼(소수점 6자리)과 같습니다.
+ */
+public final class PositionFrameEncoder {
+
+    public static final int FRAME_SIZE = 32;
+    public static final byte VERSION = 1;
+    public static final byte KIND_ROUTE = 0;
+    public static final byte KIND_ORDER = 1;
+
+    private static final double COORDINATE_SCALE = 1_000_000.0;
+    private static final double HUNDREDTHS = 100.0;
+
+    private PositionFrameEncoder() {
+    }
+
+    /**
+     * 위치 프레임 인코딩
+     *
+     * @param kind        KIND_ROUTE 또는 KIND_ORDER
+     * @param id          routeId 또는 orderId
+     * @param lat         위도
+     * @param lng         경도
+     * @param speedKmh    속도 (km/h)
+     * @param batteryPct  배터리 잔량 (%)
+     * @param epochMillis 기록 시각 (epoch millis)
+     * @return 32바이트 프레임
+     */
+    public static byte[] encode(byte kind, long id, double lat, double lng,
+                                double speedKmh, double batteryPct, long epochMillis) {
+        ByteBuffer buffer = ByteBuffer.allocate(FRAME_SIZE);
+        buffer.put(VERSION);
+        buffer.put(kind);
+        buffer.putShort(toUnsignedShort(batteryPct * HUNDREDTHS));
+        buffer.putLong(id);
+        buffer.putInt((int) Math.round(lat * COORDINATE_SCALE));
+        buffer.putInt((int) Math.round(lng * COORDINATE_SCALE));
+        buffer.putShort(toUnsignedShort(speedKmh * HUNDREDTHS));
+        buffer.putShort((short) 0);
+        buffer.putLong(epochMillis);
+        return buffer.array();
+    }
+
+    /**
+     * 0 ~ 65535 범위로 자른 뒤 unsigned 16비트로 변환
+     */
+    private static short toUnsignedShort(double value) {
+        long rounded = Math.round(value);
+        return (short) Math.max(0, Math.min(0xFFFF, rounded));
+    }
+}
@@ -0,0 +1,24 @@
+package backend.databaseproject.domain.route.simulation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 드론 위치 한 건
+ * 엔티티 참조나 BigDecimal 없이 원시 타입만 보관하며, PositionWriter가 모아 일괄 저장합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public final class PositionSample {
+
+    private final long routeId;
+    private final long stopFromId; // 출발 정류장이 없으면 0
+    private final long stopToId;
+    private final double lat;
+    private final double lng;
+    private final double speedMps;
+    private final double batteryPct;
+    private final LocalDateTime ts;
+}
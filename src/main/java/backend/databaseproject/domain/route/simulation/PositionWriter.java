@@ -0,0 +1,194 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.domain.route.repository.RoutePositionBatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 드론 위치 비동기 기록기
+ * 시뮬레이터는 위치를 고정 크기 버퍼에 넣기만 하고, 전용 스레드가 batch-size건이 모이거나
+ * flush-interval-ms가 지나면 한 번의 JDBC 배치로 저장합니다.
+ *
+ * 버퍼가 가득 차면 시뮬레이터를 막지 않고 새 위치를 버리며(dropped), 저장 지연 상태는
+ * 통계(getStats)와 주기 로그로 확인합니다. 실시간 위치 전송(WebSocket)은 이 기록기와 무관하게 즉시 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PositionWriter {
+
+    private final RoutePositionBatchRepository routePositionBatchRepository;
+
+    @Value("${delivery.simulation.position-writer.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${delivery.simulation.position-writer.batch-size:500}")
+    private int batchSize;
+
+    @Value("${delivery.simulation.position-writer.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    private static final long STATS_LOG_INTERVAL_MS = 60_000L;
+
+    private BlockingQueue<PositionSample> buffer;
+    private Thread flusher;
+    private volatile boolean running;
+
+    // 통계
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private volatile long lastFlushMs;
+    private volatile int lastBatchSize;
+
+    @PostConstruct
+    void init() {
+        buffer = new ArrayBlockingQueue<>(Math.max(1, bufferCapacity));
+        running = true;
+        flusher = new Thread(this::runFlusher, "position-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("위치 기록기 시작 - 버퍼: {}건, 배치: {}건, 저장 주기: {}ms", bufferCapacity, batchSize, flushIntervalMs);
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 위치를 모두 저장
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        running = false;
+        flusher.interrupt();
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+
+        List<PositionSample> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            flush(batch);
+        }
+        log.info("위치 기록기 종료 - {}", getStats());
+    }
+
+    /**
+     * 위치 저장 요청 (대기하지 않음)
+     *
+     * @param sample 저장할 위치
+     * @return 버퍼에 들어갔으면 true, 버퍼가 가득 차 버려졌으면 false
+     */
+    public boolean enqueue(PositionSample sample) {
+        if (buffer.offer(sample)) {
+            enqueuedCount.incrementAndGet();
+            return true;
+        }
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped == 1 || dropped % 1000 == 0) {
+            log.warn("위치 버퍼 가득 참 - 버려진 위치 누적: {}건, 버퍼: {}건", dropped, bufferCapacity);
+        }
+        return false;
+    }
+
+    /**
+     * 현재 기록기 통계
+     */
+    public Stats getStats() {
+        return new Stats(buffer.size(), bufferCapacity, enqueuedCount.get(), droppedCount.get(),
+                writtenCount.get(), failedCount.get(), flushCount.get(), lastBatchSize, lastFlushMs);
+    }
+
+    private void runFlusher() {
+        List<PositionSample> batch = new ArrayList<>(batchSize);
+        long lastStatsLogAt = System.currentTimeMillis();
+
+        while (running) {
+            try {
+                // 첫 위치를 기다린 뒤, 배치가 차거나 저장 주기가 지날 때까지 모음
+                PositionSample first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                    while (batch.size() < batchSize) {
+                        buffer.drainTo(batch, batchSize - batch.size());
+                        long remainingNs = deadline - System.nanoTime();
+                        if (batch.size() >= batchSize || remainingNs <= 0) {
+                            break;
+                        }
+                        PositionSample next = buffer.poll(remainingNs, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                    flush(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            long now = System.currentTimeMillis();
+            if (now - lastStatsLogAt >= STATS_LOG_INTERVAL_MS) {
+                lastStatsLogAt = now;
+                if (enqueuedCount.get() > 0 || droppedCount.get() > 0) {
+                    log.info("위치 기록기 - {}", getStats());
+                }
+            }
+        }
+
+        // 종료 중 모으던 배치 저장
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    private void flush(List<PositionSample> batch) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            routePositionBatchRepository.saveAll(batch);
+            writtenCount.addAndGet(batch.size());
+        } catch (Exception e) {
+            failedCount.addAndGet(batch.size());
+            log.error("위치 일괄 저장 실패 - {}건", batch.size(), e);
+        } finally {
+            flushCount.incrementAndGet();
+            lastBatchSize = batch.size();
+            lastFlushMs = System.currentTimeMillis() - startedAt;
+            batch.clear();
+        }
+    }
+
+    /**
+     * 위치 기록기 통계
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Stats {
+
+        private final int queueDepth;      // 현재 버퍼에 대기 중인 위치 수
+        private final int queueCapacity;
+        private final long enqueued;       // 버퍼에 들어간 위치 누적
+        private final long dropped;        // 버퍼가 가득 차 버려진 위치 누적
+        private final long written;        // 저장 완료 누적
+        private final long failed;         // 저장 실패 누적
+        private final long flushes;        // 배치 저장 횟수
+        private final int lastBatchSize;
+        private final long lastFlushMs;    // 마지막 배치 저장 소요 시간
+
+        @Override
+        public String toString() {
+            return String.format("대기: %d/%d, 적재: %d, 버림: %d, 저장: %d, 실패: %d, 배치: %d회 (최근 %d건, %dms)",
+                    queueDepth, queueCapacity, enqueued, dropped, written, failed, flushes, lastBatchSize, lastFlushMs);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.global.util.GeoUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구간(segment) 기반 위치 전송 판단기
+ * 드론은 정류장 사이를 일정 속도로 직선 비행하므로, 구간마다 구간 정보(출발 위치, 목적지, 속도)를 한 번 보내면
+ * 클라이언트가 위치를 직접 계산(dead reckoning)할 수 있습니다.
+ *
+ * 경로별로 마지막으로 보낸 구간 정보를 기억하고, 매 틱마다 클라이언트가 계산할 위치와 실제 위치를 비교하여
+ * - 새 구간 시작 시
+ * - 두 위치 차이가 segment-threshold-m을 넘을 때 (틱 지연, 정류장 처리 대기 등)
+ * 에만 새 구간 정보를 반환합니다.
+ */
+@Component
+public class SegmentTracker {
+
+    @Value("${delivery.simulation.segment-threshold-m:30}")
+    private double thresholdMeters;
+
+    /**
+     * 경로별 마지막으로 보낸 구간 정보
+     */
+    private final Map<Long, Segment> lastSegments = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 위치 반영 후 전송할 구간 정보 결정
+     *
+     * @param routeId     경로 ID
+     * @param targetStop  향하고 있는 정류장 인덱스
+     * @param lat         실제 위도
+     * @param lng         실제 경도
+     * @param toLat       목적지 위도
+     * @param toLng       목적지 경도
+     * @param speedMps    실제 시간 기준 속도 (m/s)
+     * @param nowMillis   현재 실제 시각 (epoch millis, 클라이언트 계산과 같은 기준)
+     * @return 전송해야 하면 새 구간 정보, 클라이언트 계산으로 충분하면 null
+     */
+    public Segment update(long routeId, int targetStop, double lat, double lng,
+                          double toLat, double toLng, double speedMps, long nowMillis) {
+        Segment last = lastSegments.get(routeId);
+
+        Segment.Reason reason;
+        if (last == null || last.getTargetStop() != targetStop) {
+            reason = Segment.Reason.LEG;
+        } else {
+            double[] predicted = last.positionAt(nowMillis);
+            // 수십 m 차이 비교이므로 빠른 거리 계산으로 충분
+            double deviationMeters = GeoUtils.fastDistance(predicted[0], predicted[1], lat, lng) * 1000.0;
+            if (deviationMeters <= thresholdMeters) {
+                return null;
+            }
+            reason = Segment.Reason.CORRECTION;
+        }
+
+        Segment segment = new Segment(targetStop, lat, lng, toLat, toLng, speedMps, nowMillis, reason);
+        lastSegments.put(routeId, segment);
+        return segment;
+    }
+
+    /**
+     * 비행 종료 시 제거
+     */
+    public void remove(Long routeId) {
+        lastSegments.remove(routeId);
+    }
+
+    /**
+     * 구간 정보: fromLat/fromLng에서 startedAtMillis에 출발하여 toLat/toLng까지 speedMps로 직선 비행
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Segment {
+
+        public enum Reason {
+            LEG,        // 새 구간 시작
+            CORRECTION  // 계산 위치와 실제 위치 차이로 재전송
+        }
+
+        private final int targetStop;
+        private final double fromLat;
+        private final double fromLng;
+        private final double toLat;
+        private final double toLng;
+        private final double speedMps;
+        private final long startedAtMillis;
+        private final Reason reason;
+
+        /**
+         * 구간 남은 거리 (km)
+         */
+        public double distanceKm() {
+            return GeoUtils.calculateDistance(fromLat, fromLng, toLat, toLng);
+        }
+
+        /**
+         * 주어진 시각의 계산 위치 (목적지에 도착하면 목적지에 머무름)
+         */
+        double[] positionAt(long millis) {
+            double distanceKm = distanceKm();
+            if (distanceKm <= 0) {
+                return new double[]{toLat, toLng};
+            }
+            double traveledKm = Math.max(0, millis - startedAtMillis) / 1000.0 * speedMps / 1000.0;
+            double fraction = Math.min(1.0, traveledKm / distanceKm);
+            return GeoUtils.interpolate(fromLat, fromLng, toLat, toLng, fraction);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package backend.databaseproject.domain.route.simulation;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시뮬레이션 시계
+ * 비행 시뮬레이션, 정류장 처리, 주문/경로/정류장 시각 기록이 벽시계 대신 이 시계를 사용합니다.
+ *
+ * 모드 (delivery.simulation.clock.mode)
+ * - real: 벽시계와 동일 (기본값)
+ * - scaled: 서버 시작 시점부터 speed배로 흐름 (예: speed 60이면 실제 1분에 시뮬레이션 1시간)
+ * - discrete: 이벤트 단위로만 흐름. 틱 엔진이 진행 중인 비행의 한 틱을 모두 처리하면 곧바로 틱 간격만큼 전진
+ *             (대기 없이 최대 속도로 진행, 부하 테스트/재현용)
+ *
+ * discrete 모드에서 sleep은 즉시 반환하므로, 순차 실행(thread/virtual) 방식에서는 틱 엔진과 함께 쓰는 것을 권장합니다.
+ */
+@Component
+@Slf4j
+public class SimulationClock {
+
+    public enum Mode {
+        REAL,
+        SCALED,
+        DISCRETE
+    }
+
+    @Value("${delivery.simulation.clock.mode:real}")
+    private String modeName;
+
+    @Value("${delivery.simulation.clock.speed:1}")
+    private double speed;
+
+    private Mode mode;
+    private long originWallMillis;
+    private final AtomicLong discreteMillis = new AtomicLong();
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    @PostConstruct
+    void init() {
+        mode = Mode.valueOf(modeName.trim().toUpperCase());
+        if (mode == Mode.SCALED && speed <= 0) {
+            throw new IllegalStateException("delivery.simulation.clock.speed는 0보다 커야 합니다: " + speed);
+        }
+        originWallMillis = System.currentTimeMillis();
+        discreteMillis.set(originWallMillis);
+        log.info("시뮬레이션 시계 - 모드: {}{}", mode, mode == Mode.SCALED ? ", 배속: " + speed : "");
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public boolean isDiscrete() {
+        return mode == Mode.DISCRETE;
+    }
+
+    /**
+     * 현재 시뮬레이션 시각 (epoch millis)
+     */
+    public long millis() {
+        return switch (mode) {
+            case REAL -> System.currentTimeMillis();
+            case SCALED -> originWallMillis + (long) ((System.currentTimeMillis() - originWallMillis) * speed);
+            case DISCRETE -> discreteMillis.get();
+        };
+    }
+
+    /**
+     * 현재 시뮬레이션 시각
+     */
+    public LocalDateTime now() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(millis()), zone);
+    }
+
+    /**
+     * 시뮬레이션 시간으로 simMillis만큼 대기
+     * scaled 모드는 배속만큼 짧게 대기하고, discrete 모드는 대기하지 않습니다.
+     */
+    public void sleep(long simMillis) throws InterruptedException {
+        long wallMillis = toWallMillis(simMillis);
+        if (wallMillis > 0) {
+            Thread.sleep(wallMillis);
+        }
+    }
+
+    /**
+     * 시뮬레이션 시간 간격을 실제 대기 시간으로 변환 (ms)
+     */
+    public long toWallMillis(long simMillis) {
+        return switch (mode) {
+            case REAL -> simMillis;
+            case SCALED -> Math.max(1L, Math.round(simMillis / speed));
+            case DISCRETE -> 0L;
+        };
+    }
+
+    /**
+     * 시뮬레이션 속도를 실제 시간 기준 속도로 바꾸는 배율 (real: 1, scaled: speed)
+     * discrete 모드는 실제 시간과 비례하지 않으므로 사용할 수 없습니다.
+     */
+    public double wallRate() {
+        return switch (mode) {
+            case REAL -> 1.0;
+            case SCALED -> speed;
+            case DISCRETE -> throw new IllegalStateException("discrete 모드는 실제 시간 기준 배율이 없습니다.");
+        };
+    }
+
+    /**
+     * discrete 모드에서 시뮬레이션 시각 전진 (틱 엔진 전용)
+     */
+    public void advance(long simMillis) {
+        if (mode == Mode.DISCRETE) {
+            discreteMillis.addAndGet(simMillis);
+        }
+    }
+}
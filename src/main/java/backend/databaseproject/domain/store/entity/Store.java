@@ -14,7 +14,10 @@ import java.time.LocalDateTime;
  * 드론배송 지원 매장 엔티티
  */
 @Entity
-@Table(name = "store")
+@Table(name = "store", indexes = {
+        // 반경 검색의 경계 상자(bounding box) 범위 조건용
+        @Index(name = "idx_store_active_lat_lng", columnList = "is_active, lat, lng")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Store {
@@ -0,0 +1,82 @@
+package backend.databaseproject.domain.store.index;
+
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.domain.store.repository.StoreRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 활성 매장 메모리 공간 인덱스
+ * 매장 위치와 배달 가능 반경은 거의 바뀌지 않으므로, 활성 매장 전체를 StoreGrid로 만들어 두고
+ * "내 위치로 배달 가능한 매장" 조회를 MySQL 없이 처리합니다.
+ *
+ * 서버 시작 시와 refresh-interval-ms마다 격자를 새로 만들어 통째로 교체합니다 (조회 중인 스레드는 이전 격자를 계속 사용).
+ * 따라서 매장 등록/비활성화/위치 변경은 최대 refresh-interval-ms만큼 늦게 반영됩니다.
+ * 현재는 매장을 변경하는 API가 없어(데이터는 DB에서 직접 관리) 주기 갱신에 의존하며,
+ * 매장 정보를 변경하는 코드를 추가하면 커밋 후 refresh()를 호출해 즉시 반영해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StoreGeoIndex {
+
+    private final StoreRepository storeRepository;
+
+    @Value("${delivery.store-index.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * 격자 한 칸 크기 (도), 기본 0.02도 (위도 방향 약 2.2km)
+     */
+    @Value("${delivery.store-index.cell-size-deg:0.02}")
+    private double cellSizeDeg;
+
+    private volatile StoreGrid grid;
+
+    /**
+     * 인덱스 사용 가능 여부 (비활성화되었거나 아직 만들어지지 않았으면 false)
+     */
+    public boolean isReady() {
+        return enabled && grid != null;
+    }
+
+    /**
+     * 사용자 위치로 배달 가능한 매장 조회 (거리순)
+     * isReady()가 true일 때만 호출해야 합니다.
+     */
+    public List<StoreGrid.StoreHit> findDeliverable(double userLat, double userLng) {
+        return grid.findDeliverable(userLat, userLng);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * 활성 매장을 다시 읽어 격자 교체
+     */
+    @Scheduled(fixedDelayString = "${delivery.store-index.refresh-interval-ms:60000}",
+            initialDelayString = "${delivery.store-index.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<Store> stores = storeRepository.findByIsActiveTrue();
+            StoreGrid rebuilt = StoreGrid.build(stores, cellSizeDeg);
+            grid = rebuilt;
+            log.debug("매장 공간 인덱스 갱신 - 매장: {}개, 격자 칸: {}개", rebuilt.size(), rebuilt.cellCount());
+        } catch (Exception e) {
+            // 갱신 실패 시 이전 격자 유지 (처음이면 DB 조회로 대체됨)
+            log.warn("매장 공간 인덱스 갱신 실패", e);
+        }
+    }
+}
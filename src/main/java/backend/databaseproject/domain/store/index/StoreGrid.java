@@ -0,0 +1,165 @@
+package backend.databaseproject.domain.store.index;
+
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.global.util.GeoUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매장 배달 가능 영역 격자 (불변)
+ * 위경도를 cellSizeDeg 크기의 정사각 격자로 나누고, 각 매장을 배달 가능 반경(deliveryRadiusKm)의
+ * 경계 상자가 걸치는 모든 칸에 등록합니다.
+ *
+ * 따라서 "내 위치로 배달 가능한 매장" 조회는 사용자 위치가 속한 한 칸의 후보만 확인하면 됩니다.
+ * 칸마다 후보 매장의 좌표와 반경을 기본형 배열로 모아 두고 GeoUtils.fastDistances로 한 번에 거리를 계산하므로,
+ * 후보 확인 시 BigDecimal 변환, 엔티티 접근, 후보별 삼각함수 호출이 없습니다.
+ * 배달 반경(수 km) 거리에서 빠른 거리 계산의 오차는 1mm 미만입니다.
+ */
+public final class StoreGrid {
+
+    private final double cellSizeDeg;
+    private final Store[] stores;
+
+    /**
+     * 격자 칸 키 → 해당 칸에 배달 가능 영역이 걸치는 매장들
+     */
+    private final Map<Long, Cell> cells;
+
+    private StoreGrid(double cellSizeDeg, Store[] stores, Map<Long, Cell> cells) {
+        this.cellSizeDeg = cellSizeDeg;
+        this.stores = stores;
+        this.cells = cells;
+    }
+
+    /**
+     * 매장 목록으로 격자 생성
+     *
+     * @param activeStores 활성 매장 목록
+     * @param cellSizeDeg  격자 한 칸 크기 (도)
+     */
+    public static StoreGrid build(List<Store> activeStores, double cellSizeDeg) {
+        if (cellSizeDeg <= 0) {
+            throw new IllegalArgumentException("격자 크기는 0보다 커야 합니다: " + cellSizeDeg);
+        }
+
+        int n = activeStores.size();
+        Store[] stores = activeStores.toArray(new Store[0]);
+        double[] lat = new double[n];
+        double[] lng = new double[n];
+        double[] radiusKm = new double[n];
+        Map<Long, List<Integer>> building = new HashMap<>();
+
+        for (int i = 0; i < n; i++) {
+            lat[i] = stores[i].getLat().doubleValue();
+            lng[i] = stores[i].getLng().doubleValue();
+            radiusKm[i] = stores[i].getDeliveryRadiusKm().doubleValue();
+
+            double[] box = GeoUtils.boundingBox(lat[i], lng[i], radiusKm[i]);
+            int minRow = cellIndex(box[0], cellSizeDeg);
+            int maxRow = cellIndex(box[1], cellSizeDeg);
+            int minCol = cellIndex(box[2], cellSizeDeg);
+            int maxCol = cellIndex(box[3], cellSizeDeg);
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    building.computeIfAbsent(cellKey(row, col), key -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        Map<Long, Cell> cells = new HashMap<>(building.size() * 2);
+        building.forEach((key, indexes) -> cells.put(key, new Cell(indexes, lat, lng, radiusKm)));
+
+        return new StoreGrid(cellSizeDeg, stores, cells);
+    }
+
+    /**
+     * 사용자 위치로 배달 가능한 매장 조회
+     *
+     * @param userLat 사용자 위도
+     * @param userLng 사용자 경도
+     * @return 배달 가능한 매장과 거리 (거리순 정렬)
+     */
+    public List<StoreHit> findDeliverable(double userLat, double userLng) {
+        Cell cell = cells.get(cellKey(cellIndex(userLat, cellSizeDeg), cellIndex(userLng, cellSizeDeg)));
+        if (cell == null) {
+            return new ArrayList<>();
+        }
+
+        int count = cell.storeIndexes.length;
+        double[] distances = new double[count];
+        GeoUtils.fastDistances(userLat, userLng, cell.lat, cell.lng, count, distances);
+
+        List<StoreHit> hits = new ArrayList<>();
+        for (int k = 0; k < count; k++) {
+            if (distances[k] <= cell.radiusKm[k]) {
+                hits.add(new StoreHit(stores[cell.storeIndexes[k]], distances[k]));
+            }
+        }
+        hits.sort(Comparator.comparingDouble(StoreHit::getDistanceKm));
+        return hits;
+    }
+
+    /**
+     * 등록된 매장 수
+     */
+    public int size() {
+        return stores.length;
+    }
+
+    /**
+     * 격자 칸 수
+     */
+    public int cellCount() {
+        return cells.size();
+    }
+
+    private static int cellIndex(double degrees, double cellSizeDeg) {
+        return (int) Math.floor(degrees / cellSizeDeg);
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 격자 한 칸의 후보 매장 (좌표/반경을 칸 단위로 연속 배열에 복사)
+     */
+    private static final class Cell {
+
+        private final int[] storeIndexes;
+        private final double[] lat;
+        private final double[] lng;
+        private final double[] radiusKm;
+
+        private Cell(List<Integer> indexes, double[] storeLat, double[] storeLng, double[] storeRadiusKm) {
+            int count = indexes.size();
+            this.storeIndexes = new int[count];
+            this.lat = new double[count];
+            this.lng = new double[count];
+            this.radiusKm = new double[count];
+            for (int k = 0; k < count; k++) {
+                int i = indexes.get(k);
+                storeIndexes[k] = i;
+                lat[k] = storeLat[i];
+                lng[k] = storeLng[i];
+                radiusKm[k] = storeRadiusKm[i];
+            }
+        }
+    }
+
+    /**
+     * 조회 결과: 매장과 사용자로부터의 거리 (km)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class StoreHit {
+        private final Store store;
+        private final double distanceKm;
+    }
+}
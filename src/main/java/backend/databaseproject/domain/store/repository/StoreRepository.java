@@ -1,6 +1,7 @@
 package backend.databaseproject.domain.store.repository;
 
 import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.global.util.GeoUtils;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -22,11 +23,28 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
 
     /**
      * 특정 반경 내의 활성화된 매장 조회
-     * Haversine 공식을 사용한 거리 계산
+     * 위경도 경계 상자(bounding box)로 먼저 후보를 좁힌 뒤 Haversine 공식으로 정확한 거리를 계산합니다.
+     *
+     * @param lat      중심 위도
+     * @param lng      중심 경도
+     * @param radiusKm 반경 (km)
+     * @return 반경 내 활성 매장 목록 (거리순 정렬)
+     */
+    default List<Store> findStoresWithinRadius(BigDecimal lat, BigDecimal lng, BigDecimal radiusKm) {
+        double[] box = GeoUtils.boundingBox(lat.doubleValue(), lng.doubleValue(), radiusKm.doubleValue());
+        return findStoresWithinBoundingBox(lat, lng, radiusKm, box[0], box[1], box[2], box[3]);
+    }
+
+    /**
+     * 경계 상자 내 후보 중 특정 반경 내의 활성화된 매장 조회
+     * 경계 상자 조건은 (is_active, lat, lng) 복합 인덱스(idx_store_active_lat_lng)로 범위 검색되므로,
+     * 전체 매장이 아닌 후보 행에 대해서만 Haversine 계산을 수행합니다.
      */
     @Query(value = """
         SELECT s.* FROM store s
         WHERE s.is_active = 1
+        AND s.lat BETWEEN :minLat AND :maxLat
+        AND s.lng BETWEEN :minLng AND :maxLng
         AND (6371 * acos(
             cos(radians(:lat)) * cos(radians(s.lat)) *
             cos(radians(s.lng) - radians(:lng)) +
@@ -38,9 +56,13 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
             sin(radians(:lat)) * sin(radians(s.lat))
         ))
         """, nativeQuery = true)
-    List<Store> findStoresWithinRadius(@Param("lat") BigDecimal lat,
-                                       @Param("lng") BigDecimal lng,
-                                       @Param("radiusKm") BigDecimal radiusKm);
+    List<Store> findStoresWithinBoundingBox(@Param("lat") BigDecimal lat,
+                                            @Param("lng") BigDecimal lng,
+                                            @Param("radiusKm") BigDecimal radiusKm,
+                                            @Param("minLat") double minLat,
+                                            @Param("maxLat") double maxLat,
+                                            @Param("minLng") double minLng,
+                                            @Param("maxLng") double maxLng);
 
     /**
      * 매장명으로 활성화된 매장 검색 (부분 일치)
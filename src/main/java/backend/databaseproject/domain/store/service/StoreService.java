@@ -7,6 +7,7 @@ import backend.databaseproject.domain.store.dto.response.ProductResponse;
 import backend.databaseproject.domain.store.dto.response.StoreResponse;
 import backend.databaseproject.domain.store.entity.Store;
 import backend.databaseproject.domain.store.entity.StoreProduct;
+import backend.databaseproject.domain.store.index.StoreGeoIndex;
 import backend.databaseproject.domain.store.repository.StoreProductRepository;
 import backend.databaseproject.domain.store.repository.StoreRepository;
 import backend.databaseproject.global.common.BaseException;
@@ -31,16 +32,27 @@ public class StoreService {
     private final StoreRepository storeRepository;
     private final StoreProductRepository storeProductRepository;
     private final DroneRepository droneRepository;
+    private final StoreGeoIndex storeGeoIndex;
 
     /**
      * 사용자 위치 기반 배달 가능한 매장 조회
      * 각 매장의 배달 가능 거리(deliveryRadiusKm) 내에 사용자가 있는 매장만 반환합니다.
+     * 매장 공간 인덱스(StoreGeoIndex)가 준비되지 않았으면 DB 반경 검색으로 처리합니다.
+     * 인덱스는 refresh-interval-ms(기본 60초)마다 다시 만들어지므로, 새로 등록/비활성화/이동한 매장은
+     * 최대 그 시간만큼 결과에 늦게 반영됩니다 (매장 정보를 바꾸는 코드가 StoreGeoIndex.refresh()를 호출하면 즉시 반영).
      *
      * @param lat 사용자 위도
      * @param lng 사용자 경도
      * @return 배달 가능한 매장 목록 (거리순 정렬)
      */
     public List<StoreResponse> getStoresNearby(BigDecimal lat, BigDecimal lng) {
+        // 메모리 공간 인덱스가 준비되어 있으면 DB 조회 없이 처리
+        if (storeGeoIndex.isReady()) {
+            return storeGeoIndex.findDeliverable(lat.doubleValue(), lng.doubleValue()).stream()
+                    .map(hit -> StoreResponse.from(hit.getStore(), hit.getDistanceKm()))
+                    .collect(Collectors.toList());
+        }
+
         // 성능 최적화를 위해 합리적인 최대 반경(50km) 내의 활성 매장만 조회
         BigDecimal maxRadiusKm = BigDecimal.valueOf(50.0);
         List<Store> stores = storeRepository.findStoresWithinRadius(lat, lng, maxRadiusKm);
@@ -28,5 +28,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*") // 개발 환경에서 모든 origin 허용
                 .withSockJS();
+
+        // 네이티브 WebSocket 엔드포인트 (SockJS 미사용)
+        // SockJS는 텍스트 프레임만 지원하므로, 압축 위치 프레임(.../compact)은 이 엔드포인트로 구독해야 바이너리로 수신됨
+        registry.addEndpoint("/ws-native")
+                .setAllowedOriginPatterns("*");
     }
 }
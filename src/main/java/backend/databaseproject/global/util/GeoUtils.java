@@ -8,6 +8,11 @@ public class GeoUtils {
 
     private static final double EARTH_RADIUS_KM = 6371.0;
 
+    /**
+     * 위도 1도에 해당하는 거리 (km)
+     */
+    private static final double KM_PER_DEGREE = EARTH_RADIUS_KM * Math.PI / 180.0;
+
     /**
      * Haversine 공식을 이용한 두 지점 간의 거리 계산
      *
@@ -30,6 +35,83 @@ public class GeoUtils {
         return EARTH_RADIUS_KM * c;
     }
 
+    /**
+     * 등장방형(equirectangular) 근사를 이용한 빠른 거리 계산
+     * 두 지점의 평균 위도에서 경도 간격을 cos(위도)로 보정한 뒤 평면 거리로 계산합니다 (삼각함수 1회).
+     * calculateDistance(Haversine)와 같은 구면 모델 기준 오차는 다음과 같습니다.
+     * <ul>
+     *     <li>위도 ±60도 이내, 20km 이하: 0.03m 미만 (상대 오차 2e-6 미만)</li>
+     *     <li>위도 ±60도 이내, 50km 이하: 0.5m 미만</li>
+     *     <li>위도 ±70도 이내, 50km 이하: 1.1m 미만</li>
+     * </ul>
+     * 오차는 거리의 세제곱에 비례하여 커지므로 장거리, 극지방, 날짜변경선(경도 ±180)을 넘는 경우에는 사용하지 않습니다.
+     * 후보 순위 비교나 근접 후보 탐색처럼 정확한 값이 필요 없는 곳에 사용합니다.
+     *
+     * @param lat1 시작점 위도
+     * @param lng1 시작점 경도
+     * @param lat2 도착점 위도
+     * @param lng2 도착점 경도
+     * @return 두 지점 간의 거리 (km)
+     */
+    public static double fastDistance(double lat1, double lng1, double lat2, double lng2) {
+        double cosMeanLat = Math.cos(Math.toRadians((lat1 + lat2) * 0.5));
+        double dx = (lng2 - lng1) * cosMeanLat;
+        double dy = lat2 - lat1;
+        return KM_PER_DEGREE * Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * 한 지점에서 여러 지점까지의 빠른 거리 일괄 계산 (fastDistance와 같은 오차 범위)
+     * 기준점의 cos/sin(위도)만 한 번 계산하고, 각 지점의 평균 위도 cos 값은 2차 테일러 전개로 구하므로
+     * 지점마다 삼각함수 호출 없이 곱셈과 제곱근만 수행합니다.
+     *
+     * @param lat    기준점 위도
+     * @param lng    기준점 경도
+     * @param lats   대상 위도 배열
+     * @param lngs   대상 경도 배열
+     * @param count  계산할 지점 수 (배열 앞에서부터)
+     * @param out    거리 결과 (km, 길이 count 이상)
+     */
+    public static void fastDistances(double lat, double lng, double[] lats, double[] lngs, int count, double[] out) {
+        double latRad = Math.toRadians(lat);
+        double cosLat = Math.cos(latRad);
+        double sinLat = Math.sin(latRad);
+        double halfRadPerDegree = Math.PI / 360.0;
+
+        for (int i = 0; i < count; i++) {
+            double dy = lats[i] - lat;
+            // cos(lat + h) ≈ cos(lat) - sin(lat)·h - cos(lat)·h²/2, h = 위도 차이의 절반 (라디안)
+            double h = dy * halfRadPerDegree;
+            double cosMeanLat = cosLat - sinLat * h - cosLat * h * h * 0.5;
+            double dx = (lngs[i] - lng) * cosMeanLat;
+            out[i] = KM_PER_DEGREE * Math.sqrt(dx * dx + dy * dy);
+        }
+    }
+
+    /**
+     * 중심점에서 반경 radiusKm인 원을 감싸는 위경도 경계 상자 계산
+     * 원 안의 모든 지점은 경계 상자 안에 있으므로, DB 검색 시 인덱스 범위 조건(사전 필터)으로 사용할 수 있습니다.
+     * 극지방 등 경도 범위를 구할 수 없는 경우 경도는 전체 범위(-180 ~ 180)를 반환하며, 날짜변경선(경도 ±180)을 넘는 경우는 고려하지 않습니다.
+     *
+     * @param lat      중심 위도
+     * @param lng      중심 경도
+     * @param radiusKm 반경 (km)
+     * @return [최소 위도, 최대 위도, 최소 경도, 최대 경도] 배열
+     */
+    public static double[] boundingBox(double lat, double lng, double radiusKm) {
+        double angularRadius = radiusKm / EARTH_RADIUS_KM;
+        double dLat = Math.toDegrees(angularRadius);
+        double minLat = lat - dLat;
+        double maxLat = lat + dLat;
+
+        if (minLat <= -90.0 || maxLat >= 90.0) {
+            return new double[]{Math.max(minLat, -90.0), Math.min(maxLat, 90.0), -180.0, 180.0};
+        }
+
+        double dLng = Math.toDegrees(Math.asin(Math.sin(angularRadius) / Math.cos(Math.toRadians(lat))));
+        return new double[]{minLat, maxLat, lng - dLng, lng + dLng};
+    }
+
     /**
      * 특정 지점이 배송 가능 범위 내에 있는지 확인
      *
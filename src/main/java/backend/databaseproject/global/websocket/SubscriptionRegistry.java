@@ -0,0 +1,113 @@
+package backend.databaseproject.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebSocket(STOMP) 구독 현황 저장소
+ * 구독/구독 해제/연결 종료 이벤트로 목적지별 구독자 수를 관리합니다.
+ * 시뮬레이터는 구독자가 있는 목적지에만 메시지를 만들어 전송합니다.
+ *
+ * SimpleBroker처럼 패턴 구독(예: /topic/order/&#42;/position)도 처리합니다.
+ */
+@Component
+@Slf4j
+public class SubscriptionRegistry {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    /**
+     * 목적지 → 구독 수 (패턴이 아닌 구독)
+     */
+    private final Map<String, Integer> destinationCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 패턴 → 구독 수
+     */
+    private final Map<String, Integer> patternCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 세션 ID → (구독 ID → 목적지)
+     */
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = accessor.getDestination();
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+
+        String previous = sessionSubscriptions
+                .computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        if (previous != null) {
+            decrement(previous);
+        }
+        countsFor(destination).merge(destination, 1, Integer::sum);
+        log.debug("구독 - Session: {}, Destination: {}", sessionId, destination);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String destination = subscriptions.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            decrement(destination);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    /**
+     * 목적지에 구독자가 있는지 확인
+     *
+     * @param destination 전송할 목적지 (예: /topic/order/1/position)
+     * @return 직접 구독 또는 패턴 구독이 하나라도 있으면 true
+     */
+    public boolean hasSubscribers(String destination) {
+        if (destinationCounts.containsKey(destination)) {
+            return true;
+        }
+        if (patternCounts.isEmpty()) {
+            return false;
+        }
+        for (String pattern : patternCounts.keySet()) {
+            if (pathMatcher.match(pattern, destination)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Map<String, Integer> countsFor(String destination) {
+        return pathMatcher.isPattern(destination) ? patternCounts : destinationCounts;
+    }
+
+    private void decrement(String destination) {
+        countsFor(destination).computeIfPresent(destination, (d, count) -> count > 1 ? count - 1 : null);
+    }
+}
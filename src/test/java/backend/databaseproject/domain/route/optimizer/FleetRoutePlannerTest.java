@@ -0,0 +1,113 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FleetRoutePlannerTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private final FleetRoutePlanner planner =
+            new FleetRoutePlanner(new OrderSelectionEngine(OrderSelectionEngine.Objective.COUNT, 30));
+
+    @Test
+    void plan_assignsEachOrderOnceWithinDroneLimits() {
+        Random random = new Random(42);
+
+        for (int trial = 0; trial < 100; trial++) {
+            int n = 1 + random.nextInt(40);
+            int drones = 1 + random.nextInt(4);
+            DistanceMatrix matrix = randomMatrix(random, n);
+            double[] weightKg = new double[n];
+            double[] ageMinutes = new double[n];
+            for (int k = 0; k < n; k++) {
+                weightKg[k] = 0.1 + random.nextDouble() * 2.9;
+                ageMinutes[k] = random.nextDouble() * 60.0;
+            }
+            double[] maxPayloadKg = new double[drones];
+            double[] maxDistanceKm = new double[drones];
+            for (int v = 0; v < drones; v++) {
+                maxPayloadKg[v] = 2.0 + random.nextDouble() * 8.0;
+                maxDistanceKm[v] = 3.0 + random.nextDouble() * 12.0;
+            }
+
+            int[][] tours = planner.plan(nodes(n), weightKg, ageMinutes, maxPayloadKg, maxDistanceKm, matrix);
+
+            assertThat(tours).hasSize(drones);
+            boolean[] assigned = new boolean[n];
+            for (int v = 0; v < drones; v++) {
+                int[] tour = tours[v];
+                assertThat(tour[0]).isEqualTo(DistanceMatrix.STORE_NODE);
+                assertThat(tour[tour.length - 1]).isEqualTo(DistanceMatrix.STORE_NODE);
+                assertThat(matrix.tourDistance(tour)).isLessThanOrEqualTo(maxDistanceKm[v] + EPSILON);
+
+                double loadKg = 0;
+                for (int p = 1; p < tour.length - 1; p++) {
+                    int k = tour[p] - 1;
+                    assertThat(assigned[k]).isFalse();
+                    assigned[k] = true;
+                    loadKg += weightKg[k];
+                }
+                assertThat(loadKg).isLessThanOrEqualTo(maxPayloadKg[v] + EPSILON);
+            }
+
+            // 같은 입력이면 같은 계획
+            int[][] again = planner.plan(nodes(n), weightKg, ageMinutes, maxPayloadKg, maxDistanceKm, matrix);
+            assertThat(again).isEqualTo(tours);
+        }
+    }
+
+    @Test
+    void plan_assignsAllOrdersWhenFleetHasRoom() {
+        DistanceMatrix matrix = randomMatrix(new Random(1), 6);
+        double[] weightKg = {1.0, 1.0, 1.0, 1.0, 1.0, 1.0};
+
+        int[][] tours = planner.plan(nodes(6), weightKg, new double[6],
+                new double[]{3.0, 3.0}, new double[]{50.0, 50.0}, matrix);
+
+        assertThat(tours[0]).hasSize(5);
+        assertThat(tours[1]).hasSize(5);
+    }
+
+    @Test
+    void plan_returnsEmptyTourForDroneWithoutOrders() {
+        DistanceMatrix matrix = randomMatrix(new Random(1), 2);
+
+        int[][] tours = planner.plan(nodes(2), new double[]{1.0, 1.0}, new double[2],
+                new double[]{5.0, 5.0}, new double[]{50.0, 50.0}, matrix);
+
+        assertThat(tours[0]).hasSize(4);
+        assertThat(tours[1]).isEqualTo(new int[]{0, 0});
+    }
+
+    @Test
+    void plan_rejectsMismatchedArrays() {
+        DistanceMatrix matrix = randomMatrix(new Random(1), 2);
+
+        assertThatThrownBy(() -> planner.plan(nodes(2), new double[]{1.0}, new double[2],
+                new double[]{5.0}, new double[]{50.0}, matrix))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DistanceMatrix randomMatrix(Random random, int orderCount) {
+        double[] lat = new double[orderCount + 1];
+        double[] lng = new double[orderCount + 1];
+        for (int i = 0; i <= orderCount; i++) {
+            lat[i] = 37.25 + random.nextDouble() * 0.05;
+            lng[i] = 127.00 + random.nextDouble() * 0.05;
+        }
+        return DistanceMatrix.ofCoordinates(lat, lng);
+    }
+
+    private int[] nodes(int orderCount) {
+        int[] nodes = new int[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            nodes[i] = i + 1;
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,107 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HeldKarpSolverTest {
+
+    private final HeldKarpSolver solver = new HeldKarpSolver();
+
+    @Test
+    void solve_matchesBruteForceOptimum() {
+        Random random = new Random(42);
+
+        for (int trial = 0; trial < 50; trial++) {
+            int n = 1 + random.nextInt(7);
+            DistanceMatrix matrix = randomMatrix(random, n);
+            int[] nodes = nodes(n);
+
+            int[] tour = solver.solve(nodes, matrix);
+
+            assertThat(tour[0]).isEqualTo(DistanceMatrix.STORE_NODE);
+            assertThat(tour[n + 1]).isEqualTo(DistanceMatrix.STORE_NODE);
+            assertThat(Arrays.stream(tour, 1, n + 1).sorted().toArray()).containsExactly(nodes);
+            assertThat(matrix.tourDistance(tour)).isCloseTo(bruteForce(nodes, matrix), within(1e-9));
+        }
+    }
+
+    @Test
+    void solve_isNeverWorseThanLocalSearch() {
+        Random random = new Random(7);
+        TourImprover[] improvers = {new TwoOptImprover(), new OrOptImprover()};
+
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 10;
+            DistanceMatrix matrix = randomMatrix(random, n);
+            int[] nodes = nodes(n);
+
+            int[] localTour = new int[n + 2];
+            System.arraycopy(nodes, 0, localTour, 1, n);
+            SearchBudget budget = SearchBudget.of(1_000, 10_000);
+            for (TourImprover improver : improvers) {
+                improver.improve(localTour, matrix, budget);
+            }
+
+            double exact = matrix.tourDistance(solver.solve(nodes, matrix));
+            assertThat(exact).isLessThanOrEqualTo(matrix.tourDistance(localTour) + 1e-9);
+        }
+    }
+
+    @Test
+    void solve_rejectsTooManyNodes() {
+        int n = HeldKarpSolver.MAX_NODES + 1;
+        DistanceMatrix matrix = randomMatrix(new Random(1), n);
+
+        assertThatThrownBy(() -> solver.solve(nodes(n), matrix))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DistanceMatrix randomMatrix(Random random, int orderCount) {
+        double[] lat = new double[orderCount + 1];
+        double[] lng = new double[orderCount + 1];
+        for (int i = 0; i <= orderCount; i++) {
+            lat[i] = 37.25 + random.nextDouble() * 0.05;
+            lng[i] = 127.00 + random.nextDouble() * 0.05;
+        }
+        return DistanceMatrix.ofCoordinates(lat, lng);
+    }
+
+    private int[] nodes(int orderCount) {
+        int[] nodes = new int[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            nodes[i] = i + 1;
+        }
+        return nodes;
+    }
+
+    private double bruteForce(int[] nodes, DistanceMatrix matrix) {
+        return permute(nodes.clone(), 0, matrix);
+    }
+
+    private double permute(int[] nodes, int k, DistanceMatrix matrix) {
+        if (k == nodes.length) {
+            int[] tour = new int[nodes.length + 2];
+            System.arraycopy(nodes, 0, tour, 1, nodes.length);
+            return matrix.tourDistance(tour);
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = k; i < nodes.length; i++) {
+            swap(nodes, k, i);
+            best = Math.min(best, permute(nodes, k + 1, matrix));
+            swap(nodes, k, i);
+        }
+        return best;
+    }
+
+    private void swap(int[] nodes, int i, int j) {
+        int tmp = nodes[i];
+        nodes[i] = nodes[j];
+        nodes[j] = tmp;
+    }
+}
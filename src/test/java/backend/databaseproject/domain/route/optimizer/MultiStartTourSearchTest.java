@@ -0,0 +1,85 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultiStartTourSearchTest {
+
+    // 시간 예산 안에 모든 시작점이 끝나도록 넉넉하게 설정 (반복 횟수 제한으로 종료)
+    private static final long TIME_BUDGET_MS = 10_000;
+    private static final int MAX_ITERATIONS = 1_000;
+
+    private final MultiStartTourSearch search = new MultiStartTourSearch(2);
+    private final List<TourImprover> pipeline = List.of(new TwoOptImprover(), new OrOptImprover());
+
+    @AfterEach
+    void tearDown() {
+        search.shutdown();
+    }
+
+    @Test
+    void search_returnsValidTourNoLongerThanSingleStart() {
+        Random random = new Random(42);
+
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 1 + random.nextInt(40);
+            DistanceMatrix matrix = randomMatrix(random, n);
+            int[] nodes = nodes(n);
+
+            int[] tour = search.search(nodes, matrix, pipeline, 8, TIME_BUDGET_MS, MAX_ITERATIONS, trial);
+            // 시작점 1개 = 결정적 Nearest Neighbor + 개선
+            int[] single = search.search(nodes, matrix, pipeline, 1, TIME_BUDGET_MS, MAX_ITERATIONS, trial);
+
+            assertThat(tour[0]).isEqualTo(DistanceMatrix.STORE_NODE);
+            assertThat(tour[n + 1]).isEqualTo(DistanceMatrix.STORE_NODE);
+            assertThat(Arrays.stream(tour, 1, n + 1).sorted().toArray()).containsExactly(nodes);
+            assertThat(matrix.tourDistance(tour)).isLessThanOrEqualTo(matrix.tourDistance(single) + 1e-9);
+        }
+    }
+
+    @Test
+    void search_isDeterministicForFixedSeed() {
+        DistanceMatrix matrix = randomMatrix(new Random(7), 30);
+        int[] nodes = nodes(30);
+
+        int[] first = search.search(nodes, matrix, pipeline, 8, TIME_BUDGET_MS, MAX_ITERATIONS, 1234L);
+        int[] second = search.search(nodes, matrix, pipeline, 8, TIME_BUDGET_MS, MAX_ITERATIONS, 1234L);
+
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void search_visitsOnlyGivenNodes() {
+        DistanceMatrix matrix = randomMatrix(new Random(3), 12);
+        int[] nodes = {2, 5, 7, 11};
+
+        int[] tour = search.search(nodes, matrix, pipeline, 4, TIME_BUDGET_MS, MAX_ITERATIONS, 99L);
+
+        assertThat(tour).hasSize(nodes.length + 2);
+        assertThat(Arrays.stream(tour, 1, nodes.length + 1).sorted().toArray()).containsExactly(nodes);
+    }
+
+    private DistanceMatrix randomMatrix(Random random, int orderCount) {
+        double[] lat = new double[orderCount + 1];
+        double[] lng = new double[orderCount + 1];
+        for (int i = 0; i <= orderCount; i++) {
+            lat[i] = 37.25 + random.nextDouble() * 0.05;
+            lng[i] = 127.00 + random.nextDouble() * 0.05;
+        }
+        return DistanceMatrix.ofCoordinates(lat, lng);
+    }
+
+    private int[] nodes(int orderCount) {
+        int[] nodes = new int[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            nodes[i] = i + 1;
+        }
+        return nodes;
+    }
+}
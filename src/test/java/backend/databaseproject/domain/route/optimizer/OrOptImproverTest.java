@@ -0,0 +1,110 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class OrOptImproverTest {
+
+    private final OrOptImprover improver = new OrOptImprover();
+
+    @Test
+    void improve_keepsPermutationAndNeverLengthensTour() {
+        Random random = new Random(42);
+
+        for (int trial = 0; trial < 200; trial++) {
+            int n = 2 + random.nextInt(19);
+            DistanceMatrix matrix = randomMatrix(random, n);
+            int[] tour = shuffledTour(random, n);
+            int[] original = tour.clone();
+            double before = matrix.tourDistance(tour);
+
+            boolean improved = improver.improve(tour, matrix, SearchBudget.of(1_000, 10_000));
+
+            assertThat(tour[0]).isEqualTo(DistanceMatrix.STORE_NODE);
+            assertThat(tour[n + 1]).isEqualTo(DistanceMatrix.STORE_NODE);
+            assertThat(Arrays.stream(tour, 1, n + 1).sorted().toArray()).containsExactly(nodes(n));
+            if (improved) {
+                assertThat(matrix.tourDistance(tour)).isLessThan(before);
+            } else {
+                assertThat(tour).isEqualTo(original);
+            }
+
+            // 같은 입력이면 같은 결과
+            int[] again = original.clone();
+            improver.improve(again, matrix, SearchBudget.of(1_000, 10_000));
+            assertThat(again).isEqualTo(tour);
+        }
+    }
+
+    @Test
+    void improve_movesMisplacedStopsBackInLine() {
+        // 매장과 배송지 1~6이 같은 경도(자오선)에서 북쪽으로 일렬, 최단 경로는 끝까지 갔다가 돌아오는 것
+        DistanceMatrix matrix = lineMatrix(6);
+        double optimal = 2 * matrix.distance(DistanceMatrix.STORE_NODE, 6);
+
+        // 한 곳이 잘못 끼어든 경로
+        int[] single = {0, 1, 5, 2, 3, 4, 6, 0};
+        assertThat(improver.improve(single, matrix, SearchBudget.of(1_000, 10_000))).isTrue();
+        assertThat(matrix.tourDistance(single)).isCloseTo(optimal, within(1e-9));
+
+        // 뒤집힌 채로 잘못 끼어든 두 곳 구간 (4, 3)
+        int[] reversed = {0, 1, 2, 6, 4, 3, 5, 0};
+        assertThat(improver.improve(reversed, matrix, SearchBudget.of(1_000, 10_000))).isTrue();
+        assertThat(matrix.tourDistance(reversed)).isCloseTo(optimal, within(1e-9));
+    }
+
+    @Test
+    void improve_stopsWhenBudgetIsExhausted() {
+        DistanceMatrix matrix = randomMatrix(new Random(1), 10);
+        int[] tour = shuffledTour(new Random(2), 10);
+        int[] original = tour.clone();
+
+        assertThat(improver.improve(tour, matrix, SearchBudget.of(1_000, 0))).isFalse();
+        assertThat(tour).isEqualTo(original);
+    }
+
+    private DistanceMatrix lineMatrix(int orderCount) {
+        double[] lat = new double[orderCount + 1];
+        double[] lng = new double[orderCount + 1];
+        for (int i = 0; i <= orderCount; i++) {
+            lat[i] = 37.50 + i * 0.01;
+            lng[i] = 127.0;
+        }
+        return DistanceMatrix.ofCoordinates(lat, lng);
+    }
+
+    private DistanceMatrix randomMatrix(Random random, int orderCount) {
+        double[] lat = new double[orderCount + 1];
+        double[] lng = new double[orderCount + 1];
+        for (int i = 0; i <= orderCount; i++) {
+            lat[i] = 37.25 + random.nextDouble() * 0.05;
+            lng[i] = 127.00 + random.nextDouble() * 0.05;
+        }
+        return DistanceMatrix.ofCoordinates(lat, lng);
+    }
+
+    private int[] shuffledTour(Random random, int orderCount) {
+        int[] tour = new int[orderCount + 2];
+        System.arraycopy(nodes(orderCount), 0, tour, 1, orderCount);
+        for (int i = orderCount; i > 1; i--) {
+            int j = 1 + random.nextInt(i);
+            int tmp = tour[i];
+            tour[i] = tour[j];
+            tour[j] = tmp;
+        }
+        return tour;
+    }
+
+    private int[] nodes(int orderCount) {
+        int[] nodes = new int[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            nodes[i] = i + 1;
+        }
+        return nodes;
+    }
+}
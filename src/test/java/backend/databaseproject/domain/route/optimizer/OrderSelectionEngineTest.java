@@ -0,0 +1,133 @@
+package backend.databaseproject.domain.route.optimizer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderSelectionEngineTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private final OrderSelectionEngine engine = new OrderSelectionEngine(OrderSelectionEngine.Objective.COUNT, 30);
+
+    @Test
+    void select_respectsPayloadAndRange() {
+        Random random = new Random(42);
+
+        for (int trial = 0; trial < 200; trial++) {
+            int n = 1 + random.nextInt(30);
+            DistanceMatrix matrix = randomMatrix(random, n);
+            double[] weightKg = randomWeights(random, n);
+            double[] ageMinutes = randomAges(random, n);
+            boolean[] taken = new boolean[n];
+            for (int k = 0; k < n; k++) {
+                taken[k] = random.nextInt(5) == 0;
+            }
+            boolean[] before = taken.clone();
+            double maxPayloadKg = 2.0 + random.nextDouble() * 8.0;
+            double maxDistanceKm = 3.0 + random.nextDouble() * 12.0;
+
+            int[] tour = engine.select(nodes(n), weightKg, ageMinutes, taken, maxPayloadKg, maxDistanceKm, matrix);
+
+            assertThat(tour[0]).isEqualTo(DistanceMatrix.STORE_NODE);
+            assertThat(tour[tour.length - 1]).isEqualTo(DistanceMatrix.STORE_NODE);
+            assertThat(matrix.tourDistance(tour)).isLessThanOrEqualTo(maxDistanceKm + EPSILON);
+
+            Set<Integer> selected = new HashSet<>();
+            double loadKg = 0;
+            for (int p = 1; p < tour.length - 1; p++) {
+                int k = tour[p] - 1;
+                assertThat(selected.add(k)).isTrue();
+                assertThat(before[k]).isFalse();
+                loadKg += weightKg[k];
+            }
+            assertThat(loadKg).isLessThanOrEqualTo(maxPayloadKg + EPSILON);
+            for (int k = 0; k < n; k++) {
+                assertThat(taken[k]).isEqualTo(before[k] || selected.contains(k));
+            }
+
+            // 같은 입력이면 같은 선택
+            int[] again = engine.select(nodes(n), weightKg, ageMinutes, before.clone(),
+                    maxPayloadKg, maxDistanceKm, matrix);
+            assertThat(again).isEqualTo(tour);
+        }
+    }
+
+    @Test
+    void select_prefersManyLightOrdersOverOneHeavyOrder() {
+        // 먼저 들어온 5kg 주문 하나보다 1kg 주문 다섯 개를 싣는 편이 주문 수가 많음
+        DistanceMatrix matrix = randomMatrix(new Random(1), 6);
+        double[] weightKg = {5.0, 1.0, 1.0, 1.0, 1.0, 1.0};
+        boolean[] taken = new boolean[6];
+
+        int[] tour = engine.select(nodes(6), weightKg, new double[6], taken, 5.0, 50.0, matrix);
+
+        assertThat(tour).hasSize(7);
+        assertThat(taken[0]).isFalse();
+    }
+
+    @Test
+    void select_takesStarvingOrderFirst() {
+        DistanceMatrix matrix = randomMatrix(new Random(1), 6);
+        double[] weightKg = {5.0, 1.0, 1.0, 1.0, 1.0, 1.0};
+        double[] ageMinutes = {45.0, 0, 0, 0, 0, 0};
+        boolean[] taken = new boolean[6];
+
+        int[] tour = engine.select(nodes(6), weightKg, ageMinutes, taken, 5.0, 50.0, matrix);
+
+        assertThat(tour).isEqualTo(new int[]{0, 1, 0});
+        assertThat(taken[0]).isTrue();
+    }
+
+    @Test
+    void select_skipsOrdersBeyondFlightRange() {
+        // 매장에서 약 11km 떨어진 배송지는 왕복 22km라 10km 비행 거리로 갈 수 없음
+        DistanceMatrix matrix = DistanceMatrix.ofCoordinates(
+                new double[]{37.50, 37.60, 37.505},
+                new double[]{127.00, 127.00, 127.00});
+        boolean[] taken = new boolean[2];
+
+        int[] tour = engine.select(nodes(2), new double[]{1.0, 1.0}, new double[]{60.0, 0}, taken, 5.0, 10.0, matrix);
+
+        assertThat(tour).isEqualTo(new int[]{0, 2, 0});
+        assertThat(taken[0]).isFalse();
+    }
+
+    private DistanceMatrix randomMatrix(Random random, int orderCount) {
+        double[] lat = new double[orderCount + 1];
+        double[] lng = new double[orderCount + 1];
+        for (int i = 0; i <= orderCount; i++) {
+            lat[i] = 37.25 + random.nextDouble() * 0.05;
+            lng[i] = 127.00 + random.nextDouble() * 0.05;
+        }
+        return DistanceMatrix.ofCoordinates(lat, lng);
+    }
+
+    private double[] randomWeights(Random random, int orderCount) {
+        double[] weightKg = new double[orderCount];
+        for (int k = 0; k < orderCount; k++) {
+            weightKg[k] = 0.1 + random.nextDouble() * 2.9;
+        }
+        return weightKg;
+    }
+
+    private double[] randomAges(Random random, int orderCount) {
+        double[] ageMinutes = new double[orderCount];
+        for (int k = 0; k < orderCount; k++) {
+            ageMinutes[k] = random.nextDouble() * 60.0;
+        }
+        return ageMinutes;
+    }
+
+    private int[] nodes(int orderCount) {
+        int[] nodes = new int[orderCount];
+        for (int i = 0; i < orderCount; i++) {
+            nodes[i] = i + 1;
+        }
+        return nodes;
+    }
+}
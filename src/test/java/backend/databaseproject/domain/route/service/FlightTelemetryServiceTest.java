@@ -0,0 +1,175 @@
+package backend.databaseproject.domain.route.service;
+
+import backend.databaseproject.domain.drone.entity.Drone;
+import backend.databaseproject.domain.drone.repository.DroneRepository;
+import backend.databaseproject.domain.order.entity.Order;
+import backend.databaseproject.domain.route.entity.Route;
+import backend.databaseproject.domain.route.entity.RouteStop;
+import backend.databaseproject.domain.route.entity.RouteStopOrder;
+import backend.databaseproject.domain.route.entity.StopType;
+import backend.databaseproject.domain.route.repository.FlightLogRepository;
+import backend.databaseproject.domain.route.repository.RouteRepository;
+import backend.databaseproject.domain.route.repository.RouteStopRepository;
+import backend.databaseproject.domain.route.simulation.FlightPlan;
+import backend.databaseproject.domain.route.simulation.LatestPositionRegistry;
+import backend.databaseproject.domain.route.simulation.PositionFrameEncoder;
+import backend.databaseproject.domain.route.simulation.PositionWriter;
+import backend.databaseproject.domain.route.simulation.SegmentTracker;
+import backend.databaseproject.domain.route.simulation.SimulationClock;
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.global.websocket.SubscriptionRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.MimeTypeUtils;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FlightTelemetryServiceTest {
+
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+    private final SubscriptionRegistry subscriptionRegistry = mock(SubscriptionRegistry.class);
+    private final SimulationClock simulationClock = mock(SimulationClock.class);
+
+    private final FlightTelemetryService service = new FlightTelemetryService(
+            mock(RouteRepository.class), mock(RouteStopRepository.class), mock(PositionWriter.class),
+            mock(LatestPositionRegistry.class), mock(FlightLogRepository.class), mock(DroneRepository.class),
+            messagingTemplate, subscriptionRegistry, mock(SegmentTracker.class),
+            mock(PlatformTransactionManager.class), mock(ApplicationEventPublisher.class), simulationClock);
+
+    @Test
+    void publishPosition_sendsFramesOnlyToSubscribedCompactDestinations() {
+        when(simulationClock.now()).thenReturn(LocalDateTime.of(2025, 1, 1, 12, 0));
+        when(subscriptionRegistry.hasSubscribers(anyString()))
+                .thenAnswer(invocation -> invocation.<String>getArgument(0).endsWith(FlightPlan.COMPACT_SUFFIX));
+        FlightPlan plan = FlightPlan.from(route(7L, 101L, 102L));
+
+        service.publishPosition(plan, 1, 37.5, 127.0, 80.0);
+
+        Map<String, Object> compactHeaders =
+                Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        ArgumentCaptor<byte[]> routeFrame = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> orderFrame = ArgumentCaptor.forClass(byte[].class);
+        verify(messagingTemplate).convertAndSend(eq("/topic/route/7/compact"), routeFrame.capture(),
+                eq(compactHeaders));
+        verify(messagingTemplate).convertAndSend(eq("/topic/order/101/position/compact"), orderFrame.capture(),
+                eq(compactHeaders));
+        verify(messagingTemplate).convertAndSend(eq("/topic/order/102/position/compact"), any(byte[].class),
+                eq(compactHeaders));
+        // JSON 목적지는 구독자가 없으므로 전송하지 않음
+        verify(messagingTemplate, never()).convertAndSend(anyString(), anyMap());
+
+        assertFrame(routeFrame.getValue(), PositionFrameEncoder.KIND_ROUTE, 7L);
+        assertFrame(orderFrame.getValue(), PositionFrameEncoder.KIND_ORDER, 101L);
+    }
+
+    @Test
+    void publishPosition_skipsCompactFramesWithoutSubscribers() {
+        when(simulationClock.now()).thenReturn(LocalDateTime.of(2025, 1, 1, 12, 0));
+        when(subscriptionRegistry.hasSubscribers(anyString())).thenReturn(false);
+        FlightPlan plan = FlightPlan.from(route(7L, 101L, 102L));
+
+        service.publishPosition(plan, 1, 37.5, 127.0, 80.0);
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class), anyMap());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void validatePublishMode_rejectsSegmentModeWithDiscreteClock() {
+        ReflectionTestUtils.setField(service, "publishMode", "segment");
+        when(simulationClock.isDiscrete()).thenReturn(true);
+
+        assertThatThrownBy(service::validatePublishMode).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void validatePublishMode_allowsSegmentModeWithWallClock() {
+        ReflectionTestUtils.setField(service, "publishMode", "segment");
+        when(simulationClock.isDiscrete()).thenReturn(false);
+
+        assertThatCode(service::validatePublishMode).doesNotThrowAnyException();
+    }
+
+    @Test
+    void validatePublishMode_allowsEveryTickModeWithDiscreteClock() {
+        ReflectionTestUtils.setField(service, "publishMode", "every-tick");
+        when(simulationClock.isDiscrete()).thenReturn(true);
+
+        assertThatCode(service::validatePublishMode).doesNotThrowAnyException();
+    }
+
+    private void assertFrame(byte[] frame, byte kind, long id) {
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        assertThat(frame).hasSize(PositionFrameEncoder.FRAME_SIZE);
+        assertThat(buffer.get(1)).isEqualTo(kind);
+        assertThat(buffer.getLong(4)).isEqualTo(id);
+        assertThat(buffer.getInt(12)).isEqualTo(37_500_000);
+        assertThat(buffer.getInt(16)).isEqualTo(127_000_000);
+        assertThat(Short.toUnsignedInt(buffer.getShort(2))).isEqualTo(8000);
+    }
+
+    /**
+     * PICKUP → DROP(주문들) → RETURN 경로
+     */
+    private Route route(long routeId, long... orderIds) {
+        Drone drone = mock(Drone.class);
+        when(drone.getDroneId()).thenReturn(1L);
+        when(drone.getBatteryCapacity()).thenReturn(5000);
+        Store store = mock(Store.class);
+        when(store.getStoreId()).thenReturn(1L);
+
+        List<RouteStopOrder> routeStopOrders = new ArrayList<>();
+        for (long orderId : orderIds) {
+            Order order = mock(Order.class);
+            when(order.getOrderId()).thenReturn(orderId);
+            RouteStopOrder routeStopOrder = mock(RouteStopOrder.class);
+            when(routeStopOrder.getOrder()).thenReturn(order);
+            routeStopOrders.add(routeStopOrder);
+        }
+
+        List<RouteStop> stops = List.of(
+                stop(1L, 1, StopType.PICKUP, List.of()),
+                stop(2L, 2, StopType.DROP, routeStopOrders),
+                stop(3L, 3, StopType.RETURN, List.of()));
+
+        Route route = mock(Route.class);
+        when(route.getRouteId()).thenReturn(routeId);
+        when(route.getDrone()).thenReturn(drone);
+        when(route.getStore()).thenReturn(store);
+        when(route.getRouteStops()).thenReturn(stops);
+        return route;
+    }
+
+    private RouteStop stop(long stopId, int sequence, StopType type, List<RouteStopOrder> routeStopOrders) {
+        RouteStop stop = mock(RouteStop.class);
+        when(stop.getStopId()).thenReturn(stopId);
+        when(stop.getStopSequence()).thenReturn(sequence);
+        when(stop.getStopType()).thenReturn(type);
+        when(stop.getLat()).thenReturn(new BigDecimal("37.500000"));
+        when(stop.getLng()).thenReturn(new BigDecimal("127.000000"));
+        when(stop.getRouteStopOrders()).thenReturn(routeStopOrders);
+        return stop;
+    }
+}
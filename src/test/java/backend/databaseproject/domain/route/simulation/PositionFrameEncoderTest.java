@@ -0,0 +1,55 @@
+package backend.databaseproject.domain.route.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PositionFrameEncoderTest {
+
+    @Test
+    void encode_matchesDocumentedByteLayout() {
+        byte[] frame = PositionFrameEncoder.encode(PositionFrameEncoder.KIND_ORDER, 0x0102030405060708L,
+                37.512345, -127.01, 30.0, 87.65, 1_700_000_000_123L);
+
+        // 버전 | 종류 | 배터리 | ID | 위도 | 경도 | 속도 | 예약 | 시각 (big-endian)
+        assertThat(HexFormat.of().formatHex(frame)).isEqualTo(
+                "01" + "01" + "223d" + "0102030405060708" + "023c6499" + "f86dfb30" + "0bb8" + "0000"
+                        + "0000018bcfe5687b");
+    }
+
+    @Test
+    void encode_roundTripsThroughBigEndianDecode() {
+        byte[] frame = PositionFrameEncoder.encode(PositionFrameEncoder.KIND_ROUTE, 42L,
+                -33.868820, 151.209296, 29.99, 12.34, 1_760_000_000_000L);
+
+        assertThat(frame).hasSize(PositionFrameEncoder.FRAME_SIZE);
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        assertThat(buffer.order()).isEqualTo(ByteOrder.BIG_ENDIAN);
+
+        assertThat(buffer.get(0)).isEqualTo(PositionFrameEncoder.VERSION);
+        assertThat(buffer.get(1)).isEqualTo(PositionFrameEncoder.KIND_ROUTE);
+        assertThat(Short.toUnsignedInt(buffer.getShort(2)) / 100.0).isCloseTo(12.34, within(0.005));
+        assertThat(buffer.getLong(4)).isEqualTo(42L);
+        assertThat(buffer.getInt(12) / 1_000_000.0).isCloseTo(-33.868820, within(5e-7));
+        assertThat(buffer.getInt(16) / 1_000_000.0).isCloseTo(151.209296, within(5e-7));
+        assertThat(Short.toUnsignedInt(buffer.getShort(20)) / 100.0).isCloseTo(29.99, within(0.005));
+        assertThat(buffer.getShort(22)).isZero();
+        assertThat(buffer.getLong(24)).isEqualTo(1_760_000_000_000L);
+    }
+
+    @Test
+    void encode_clampsBatteryAndSpeedToUnsignedShort() {
+        byte[] high = PositionFrameEncoder.encode(PositionFrameEncoder.KIND_ROUTE, 1L, 0, 0, 1000.0, 700.0, 0L);
+        byte[] low = PositionFrameEncoder.encode(PositionFrameEncoder.KIND_ROUTE, 1L, 0, 0, -5.0, -1.0, 0L);
+
+        assertThat(Short.toUnsignedInt(ByteBuffer.wrap(high).getShort(2))).isEqualTo(0xFFFF);
+        assertThat(Short.toUnsignedInt(ByteBuffer.wrap(high).getShort(20))).isEqualTo(0xFFFF);
+        assertThat(ByteBuffer.wrap(low).getShort(2)).isZero();
+        assertThat(ByteBuffer.wrap(low).getShort(20)).isZero();
+    }
+}
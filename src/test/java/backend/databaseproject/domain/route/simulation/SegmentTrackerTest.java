@@ -0,0 +1,115 @@
+package backend.databaseproject.domain.route.simulation;
+
+import backend.databaseproject.global.util.GeoUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentTrackerTest {
+
+    private static final long ROUTE_ID = 1L;
+    private static final double SPEED_MPS = 30.0 / 3.6;
+    private static final long TICK_MILLIS = 1_000;
+
+    // 매장 → 정류장 1 (북쪽 약 1.1km) → 정류장 2 (동쪽으로 꺾음)
+    private static final double[] LAT = {37.50, 37.51, 37.51};
+    private static final double[] LNG = {127.00, 127.00, 127.01};
+
+    private final SegmentTracker tracker = new SegmentTracker();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tracker, "thresholdMeters", 30.0);
+    }
+
+    @Test
+    void update_emitsOneSegmentForStraightLeg() {
+        long start = 1_700_000_000_000L;
+
+        int emitted = 0;
+        SegmentTracker.Segment first = null;
+        for (long t = start; ; t += TICK_MILLIS) {
+            double[] position = positionOnLeg(0, 1, start, t);
+            SegmentTracker.Segment segment = update(1, position, t);
+            if (segment != null) {
+                emitted++;
+                first = first == null ? segment : first;
+            }
+            if (position[0] == LAT[1] && position[1] == LNG[1]) {
+                break;
+            }
+        }
+
+        assertThat(emitted).isEqualTo(1);
+        assertThat(first.getReason()).isEqualTo(SegmentTracker.Segment.Reason.LEG);
+        assertThat(first.getStartedAtMillis()).isEqualTo(start);
+    }
+
+    @Test
+    void update_startsNewSegmentOnTurn() {
+        long start = 1_700_000_000_000L;
+        update(1, positionOnLeg(0, 1, start, start), start);
+        long arrival = start + 200 * TICK_MILLIS;
+
+        SegmentTracker.Segment turn = update(2, new double[]{LAT[1], LNG[1]}, arrival);
+
+        assertThat(turn).isNotNull();
+        assertThat(turn.getReason()).isEqualTo(SegmentTracker.Segment.Reason.LEG);
+        assertThat(turn.getTargetStop()).isEqualTo(2);
+        assertThat(turn.getToLng()).isEqualTo(LNG[2]);
+        // 새 구간을 따라가는 다음 틱은 전송하지 않음
+        assertThat(update(2, positionOnLeg(1, 2, arrival, arrival + TICK_MILLIS), arrival + TICK_MILLIS)).isNull();
+    }
+
+    @Test
+    void update_startsNewSegmentAfterDwell() {
+        long start = 1_700_000_000_000L;
+        update(1, positionOnLeg(0, 1, start, start), start);
+
+        // 정류장 처리 등으로 출발 위치에 머무는 동안 계산 위치만 앞서 나감
+        SegmentTracker.Segment correction = null;
+        long t = start;
+        while (correction == null) {
+            t += TICK_MILLIS;
+            correction = update(1, new double[]{LAT[0], LNG[0]}, t);
+        }
+
+        assertThat(correction.getReason()).isEqualTo(SegmentTracker.Segment.Reason.CORRECTION);
+        assertThat(correction.getFromLat()).isEqualTo(LAT[0]);
+        assertThat(correction.getStartedAtMillis()).isEqualTo(t);
+        // 30m 허용 오차를 넘는 첫 틱 (초속 약 8.3m이므로 4초째)
+        assertThat(t - start).isEqualTo(4 * TICK_MILLIS);
+    }
+
+    @Test
+    void update_startsFreshAfterRemove() {
+        long start = 1_700_000_000_000L;
+        update(1, positionOnLeg(0, 1, start, start), start);
+        tracker.remove(ROUTE_ID);
+
+        SegmentTracker.Segment segment = update(1, positionOnLeg(0, 1, start, start + TICK_MILLIS),
+                start + TICK_MILLIS);
+
+        assertThat(segment).isNotNull();
+        assertThat(segment.getReason()).isEqualTo(SegmentTracker.Segment.Reason.LEG);
+    }
+
+    private SegmentTracker.Segment update(int targetStop, double[] position, long nowMillis) {
+        return tracker.update(ROUTE_ID, targetStop, position[0], position[1],
+                LAT[targetStop], LNG[targetStop], SPEED_MPS, nowMillis);
+    }
+
+    /**
+     * from 정류장에서 startMillis에 출발해 일정 속도로 비행할 때 nowMillis의 위치
+     */
+    private double[] positionOnLeg(int from, int to, long startMillis, long nowMillis) {
+        double distanceKm = GeoUtils.calculateDistance(LAT[from], LNG[from], LAT[to], LNG[to]);
+        double traveledKm = (nowMillis - startMillis) / 1000.0 * SPEED_MPS / 1000.0;
+        if (traveledKm >= distanceKm) {
+            return new double[]{LAT[to], LNG[to]};
+        }
+        return GeoUtils.interpolate(LAT[from], LNG[from], LAT[to], LNG[to], traveledKm / distanceKm);
+    }
+}
@@ -0,0 +1,109 @@
+package backend.databaseproject.domain.store.index;
+
+import backend.databaseproject.domain.store.entity.Store;
+import backend.databaseproject.domain.store.entity.StoreType;
+import backend.databaseproject.global.util.GeoUtils;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class StoreGridTest {
+
+    /**
+     * 빠른 거리 계산과 Haversine이 배달 반경 경계에서 판정을 달리할 수 있는 폭 (km, 1cm)
+     */
+    private static final double BOUNDARY_TOLERANCE_KM = 1e-5;
+
+    @Test
+    void findDeliverable_matchesBruteForceHaversine() {
+        Random random = new Random(42);
+        List<Store> stores = randomStores(random, 5000);
+        StoreGrid grid = StoreGrid.build(stores, 0.02);
+
+        for (int q = 0; q < 2000; q++) {
+            double userLat = 37.3 + random.nextDouble() * 0.4;
+            double userLng = 126.8 + random.nextDouble() * 0.4;
+
+            Map<Store, Double> expected = bruteForce(stores, userLat, userLng);
+            List<StoreGrid.StoreHit> hits = grid.findDeliverable(userLat, userLng);
+
+            Set<Store> found = Collections.newSetFromMap(new IdentityHashMap<>());
+            double previous = 0;
+            for (StoreGrid.StoreHit hit : hits) {
+                assertThat(found.add(hit.getStore())).isTrue();
+                assertThat(hit.getDistanceKm()).isGreaterThanOrEqualTo(previous);
+                previous = hit.getDistanceKm();
+
+                double haversineKm = haversine(hit.getStore(), userLat, userLng);
+                assertThat(hit.getDistanceKm()).isCloseTo(haversineKm, within(BOUNDARY_TOLERANCE_KM));
+                if (!expected.containsKey(hit.getStore())) {
+                    assertOnBoundary(hit.getStore(), haversineKm);
+                }
+            }
+            for (Map.Entry<Store, Double> entry : expected.entrySet()) {
+                if (!found.contains(entry.getKey())) {
+                    assertOnBoundary(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    @Test
+    void findDeliverable_returnsEmptyOutsideAllAreas() {
+        StoreGrid grid = StoreGrid.build(randomStores(new Random(1), 100), 0.02);
+
+        assertThat(grid.findDeliverable(35.1, 129.0)).isEmpty();
+    }
+
+    @Test
+    void build_rejectsNonPositiveCellSize() {
+        assertThatThrownBy(() -> StoreGrid.build(List.of(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Store> randomStores(Random random, int count) {
+        List<Store> stores = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            stores.add(Store.builder()
+                    .name("store-" + i)
+                    .type(StoreType.CONVENIENCE)
+                    .lat(BigDecimal.valueOf(37.3 + random.nextDouble() * 0.4).setScale(6, RoundingMode.HALF_UP))
+                    .lng(BigDecimal.valueOf(126.8 + random.nextDouble() * 0.4).setScale(6, RoundingMode.HALF_UP))
+                    .deliveryRadiusKm(BigDecimal.valueOf(1.0 + random.nextDouble() * 4.0)
+                            .setScale(2, RoundingMode.HALF_UP))
+                    .build());
+        }
+        return stores;
+    }
+
+    private Map<Store, Double> bruteForce(List<Store> stores, double userLat, double userLng) {
+        Map<Store, Double> deliverable = new IdentityHashMap<>();
+        for (Store store : stores) {
+            double distanceKm = haversine(store, userLat, userLng);
+            if (distanceKm <= store.getDeliveryRadiusKm().doubleValue()) {
+                deliverable.put(store, distanceKm);
+            }
+        }
+        return deliverable;
+    }
+
+    private double haversine(Store store, double userLat, double userLng) {
+        return GeoUtils.calculateDistance(userLat, userLng, store.getLat().doubleValue(), store.getLng().doubleValue());
+    }
+
+    private void assertOnBoundary(Store store, double haversineKm) {
+        assertThat(haversineKm).isCloseTo(store.getDeliveryRadiusKm().doubleValue(), within(BOUNDARY_TOLERANCE_KM));
+    }
+}
@@ -0,0 +1,81 @@
+package backend.databaseproject.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoUtilsTest {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final int SAMPLES = 200_000;
+
+    @Test
+    void fastDistance_within20kmUpTo60Degrees_errorBelow3cm() {
+        assertMaxError(new Random(1), 60.0, 20.0, 0.03);
+    }
+
+    @Test
+    void fastDistance_within50kmUpTo60Degrees_errorBelowHalfMetre() {
+        assertMaxError(new Random(2), 60.0, 50.0, 0.5);
+    }
+
+    @Test
+    void fastDistance_within50kmUpTo70Degrees_errorBelow1_1Metres() {
+        assertMaxError(new Random(3), 70.0, 50.0, 1.1);
+    }
+
+    /**
+     * 위도 ±maxLatDeg 안의 기준점에서 임의 방향으로 maxDistanceKm 이내의 지점을 뽑아,
+     * fastDistance와 fastDistances 모두 calculateDistance와의 차이가 maxErrorMeters 미만인지 확인
+     */
+    private void assertMaxError(Random random, double maxLatDeg, double maxDistanceKm, double maxErrorMeters) {
+        int batch = 1024;
+        double[] lats = new double[batch];
+        double[] lngs = new double[batch];
+        double[] out = new double[batch];
+        double worstSingle = 0;
+        double worstBatch = 0;
+
+        for (int done = 0; done < SAMPLES; done += batch) {
+            // 기준점과 대상 지점 모두 위도 범위 안에 있도록 기준점은 거리만큼 안쪽에서 선택
+            double margin = Math.toDegrees(maxDistanceKm / EARTH_RADIUS_KM);
+            double lat = (random.nextDouble() * 2 - 1) * (maxLatDeg - margin);
+            double lng = (random.nextDouble() * 2 - 1) * 170.0;
+            double[] exact = new double[batch];
+
+            for (int i = 0; i < batch; i++) {
+                double[] point = destination(lat, lng, random.nextDouble() * 2 * Math.PI,
+                        random.nextDouble() * maxDistanceKm);
+                lats[i] = point[0];
+                lngs[i] = point[1];
+                exact[i] = GeoUtils.calculateDistance(lat, lng, lats[i], lngs[i]);
+                double single = GeoUtils.fastDistance(lat, lng, lats[i], lngs[i]);
+                worstSingle = Math.max(worstSingle, Math.abs(single - exact[i]) * 1000.0);
+            }
+
+            GeoUtils.fastDistances(lat, lng, lats, lngs, batch, out);
+            for (int i = 0; i < batch; i++) {
+                worstBatch = Math.max(worstBatch, Math.abs(out[i] - exact[i]) * 1000.0);
+            }
+        }
+
+        assertThat(worstSingle).isLessThan(maxErrorMeters);
+        assertThat(worstBatch).isLessThan(maxErrorMeters);
+    }
+
+    /**
+     * 구면에서 시작점으로부터 방위각 bearing(라디안)으로 distanceKm 떨어진 지점
+     */
+    private double[] destination(double lat, double lng, double bearing, double distanceKm) {
+        double angular = distanceKm / EARTH_RADIUS_KM;
+        double lat1 = Math.toRadians(lat);
+        double lng1 = Math.toRadians(lng);
+        double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angular)
+                + Math.cos(lat1) * Math.sin(angular) * Math.cos(bearing));
+        double lng2 = lng1 + Math.atan2(Math.sin(bearing) * Math.sin(angular) * Math.cos(lat1),
+                Math.cos(angular) - Math.sin(lat1) * Math.sin(lat2));
+        return new double[]{Math.toDegrees(lat2), Math.toDegrees(lng2)};
+    }
+}